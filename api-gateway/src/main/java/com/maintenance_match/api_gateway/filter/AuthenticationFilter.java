@@ -70,20 +70,8 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             String token = authHeader.substring(7); // Remove "Bearer " prefix
 
             try {
-                log.info(">>> [AuthFilter] Validating token...");
-                if (!jwtUtil.isTokenValid(token, this.publicKey)) {
-                    // Check if the request path is for a public endpoint (like login or signup)
-                    if (isPublicEndpoint(request)) {
-                        log.info(">>> [AuthFilter] Path is public. Skipping authentication.");
-                        return chain.filter(exchange); // If public, let it pass without checks
-                    }
-                    log.warn(">>> [AuthFilter] Token validation failed (likely expired or invalid signature).");
-                    return this.onError(exchange, "Invalid or Expired Token", HttpStatus.UNAUTHORIZED);
-                }
-                log.info(">>> [AuthFilter] Token is valid.");
-
-                // Extract all claims from the token
-                Claims claims = jwtUtil.extractAllClaims(token, this.publicKey);
+                // Verifies signature and expiry once; repeat requests with the same token hit the cache
+                Claims claims = jwtUtil.validateAndGetClaims(token, this.publicKey);
                 String userId = claims.getSubject();
                 String userRole = claims.get("role", String.class);
 
@@ -1,23 +1,97 @@
 package com.maintenance_match.api_gateway.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    // Upper bound for tokens without an exp claim; matches the access token lifetime.
+    private static final Duration MAX_CACHE_TTL = Duration.ofMinutes(15);
+    private static final long DEFAULT_CACHE_SIZE = 10_000;
+
+    // Parser is thread-safe and immutable, so it is built once per public key.
+    private volatile KeyedParser keyedParser;
+
+    // Verified claims keyed by the SHA-256 of the token, each entry expiring at the token's exp.
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtUtil() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${app.jwt.cache.maximum-size:10000}") long maximumCacheSize) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return nanosUntilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return nanosUntilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Verifies the token once and returns its claims. Repeat calls with the same token
+     * are answered from the cache until the token expires, skipping the RSA verification.
+     * The returned claims are shared and must not be modified.
+     * @param token The compact JWS string (without the "Bearer " prefix).
+     * @param publicKey The key the token must be signed with.
+     * @return The verified claims.
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired.
+     */
+    public Claims validateAndGetClaims(String token, PublicKey publicKey) {
+        JwtParser parser = parserFor(publicKey);
+        String cacheKey = sha256(token);
+
+        Claims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(cacheKey);
+            throw new ExpiredJwtException(null, cached, "JWT expired at " + cached.getExpiration());
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(cacheKey, claims);
+        return claims;
+    }
+
     public Claims extractAllClaims(String token, PublicKey publicKey) {
-        return Jwts.parserBuilder()
-                .setSigningKey(publicKey)
-                .build()
+        return parserFor(publicKey)
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -54,4 +128,47 @@ public class JwtUtil {
             throw new RuntimeException("Failed to parse public key", e);
         }
     }
+
+    private JwtParser parserFor(PublicKey publicKey) {
+        KeyedParser current = this.keyedParser;
+        if (current != null && current.publicKey().equals(publicKey)) {
+            return current.parser();
+        }
+        synchronized (this) {
+            current = this.keyedParser;
+            if (current == null || !current.publicKey().equals(publicKey)) {
+                // A new key invalidates everything verified with the old one
+                verifiedTokens.invalidateAll();
+                current = new KeyedParser(publicKey, Jwts.parserBuilder().setSigningKey(publicKey).build());
+                this.keyedParser = current;
+            }
+            return current.parser();
+        }
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    private static long nanosUntilExpiry(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return MAX_CACHE_TTL.toNanos();
+        }
+        long millis = expiration.getTime() - System.currentTimeMillis();
+        return Math.max(0, Math.min(Duration.ofMillis(millis).toNanos(), MAX_CACHE_TTL.toNanos()));
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record KeyedParser(PublicKey publicKey, JwtParser parser) {
+    }
 }
@@ -1,5 +1,7 @@
 package com.maintenance_match.api_gateway.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
@@ -117,4 +119,44 @@ class JwtUtilTest {
         // Then
         assertThat(role).isEqualTo("ADMIN");
     }
+
+    @Test
+    void validateAndGetClaims_shouldReturnClaimsAndServeRepeatsFromCache() {
+        // Given
+        String token = createToken(userId, new Date(System.currentTimeMillis() + 100000), "USER");
+
+        // When
+        Claims first = jwtUtil.validateAndGetClaims(token, publicKey);
+        Claims second = jwtUtil.validateAndGetClaims(token, publicKey);
+
+        // Then: the second call returns the cached, already-verified claims
+        assertThat(first.getSubject()).isEqualTo(userId);
+        assertThat(first.get("role", String.class)).isEqualTo("USER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void validateAndGetClaims_whenTokenIsExpired_shouldThrowException() {
+        // Given
+        String token = createToken(userId, new Date(System.currentTimeMillis() - 1000), "USER");
+
+        // When/Then
+        assertThatThrownBy(() -> jwtUtil.validateAndGetClaims(token, publicKey))
+                .isInstanceOf(io.jsonwebtoken.ExpiredJwtException.class);
+    }
+
+    @Test
+    void validateAndGetClaims_whenSignedWithAnotherKey_shouldThrowException() throws Exception {
+        // Given: a token verified against one key, then presented with a different key
+        String token = createToken(userId, new Date(System.currentTimeMillis() + 100000), "USER");
+        jwtUtil.validateAndGetClaims(token, publicKey);
+
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        PublicKey otherKey = keyGen.generateKeyPair().getPublic();
+
+        // When/Then: the key change drops cached entries and the signature no longer verifies
+        assertThatThrownBy(() -> jwtUtil.validateAndGetClaims(token, otherKey))
+                .isInstanceOf(JwtException.class);
+    }
 }
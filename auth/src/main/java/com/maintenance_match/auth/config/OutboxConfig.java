@@ -0,0 +1,45 @@
+package com.maintenance_match.auth.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maintenance_match.common.dto.NotificationEncoding;
+import com.maintenance_match.common.outbox.OutboxPublisher;
+import com.maintenance_match.common.outbox.OutboxRelay;
+import com.maintenance_match.common.outbox.OutboxStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transactional outbox over this service's outbox_events table; see {@link OutboxRelay}.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxStore outboxStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new OutboxStore(jdbcTemplate);
+    }
+
+    @Bean
+    public OutboxPublisher outboxPublisher(
+            OutboxStore outboxStore,
+            ObjectMapper objectMapper,
+            @Value("${app.kafka.notification-encoding:json}") NotificationEncoding notificationEncoding) {
+        return new OutboxPublisher(outboxStore, objectMapper, notificationEncoding);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxStore outboxStore,
+            @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.outbox.batch-size:200}") int batchSize,
+            @Value("${app.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${app.outbox.claim-lease-ms:30000}") long claimLeaseMs) {
+        return new OutboxRelay(outboxStore, kafkaTemplate, transactionTemplate, batchSize, sendTimeoutMs, claimLeaseMs);
+    }
+}
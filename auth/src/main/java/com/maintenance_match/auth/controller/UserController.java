@@ -1,5 +1,6 @@
 package com.maintenance_match.auth.controller;
 
+import com.maintenance_match.auth.exception.BadRequestException;
 import com.maintenance_match.auth.model.User;
 import com.maintenance_match.auth.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -7,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -15,6 +17,8 @@ import java.util.UUID;
 @Hidden
 public class UserController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
 
     @GetMapping("/{userId}")
@@ -23,4 +27,15 @@ public class UserController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Resolves many users in a single round-trip. Unknown IDs are simply absent from the result.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<User>> getUsersByIds(@RequestBody List<UUID> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A maximum of " + MAX_BATCH_SIZE + " user IDs can be requested at once.");
+        }
+        return ResponseEntity.ok(userRepository.findAllById(userIds));
+    }
 }
@@ -0,0 +1,27 @@
+package com.maintenance_match.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a user is created or modified, so other services can refresh their copies.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangedEvent {
+    private UUID eventId;
+    private UUID userId;
+    private String changeType; // CREATED, APPROVED, REJECTED, DISABLED
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private String role;
+    private boolean active;
+}
@@ -1,9 +1,12 @@
 package com.maintenance_match.auth.service.impl;
 
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.outbox.OutboxPublisher;
+import com.maintenance_match.common.util.UuidV7;
 import com.maintenance_match.auth.dto.AdminUserView;
 import com.maintenance_match.auth.dto.MaintainerProfileEvent;
-import com.maintenance_match.auth.dto.NotificationChannel;
-import com.maintenance_match.auth.dto.NotificationEvent;
+import com.maintenance_match.auth.dto.UserChangedEvent;
 import com.maintenance_match.auth.exception.ResourceNotFoundException;
 import com.maintenance_match.auth.model.ApprovalStatus;
 import com.maintenance_match.auth.model.User;
@@ -12,7 +15,6 @@ import com.maintenance_match.auth.service.AdminService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +29,7 @@ import java.util.stream.Collectors;
 public class AdminServiceImpl implements AdminService {
 
     private final UserRepository userRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxPublisher outboxPublisher;
 
     @Value("${app.kafka.topics.notification-send}")
     private String notificationTopic;
@@ -35,6 +37,9 @@ public class AdminServiceImpl implements AdminService {
     @Value("${app.kafka.topics.maintainer-profile-creation}")
     private String maintainerTopic;
 
+    @Value("${app.kafka.topics.user-changed}")
+    private String userChangedTopic;
+
     @Override
     @Transactional(readOnly = true)
     public List<AdminUserView> getAllUsers() {
@@ -65,7 +70,8 @@ public class AdminServiceImpl implements AdminService {
                 .email(savedUser.getEmail())
                 .build();
 
-        kafkaTemplate.send(maintainerTopic, savedUser.getId().toString(), profileEvent);
+        outboxPublisher.enqueue(maintainerTopic, savedUser.getId().toString(), profileEvent);
+        publishUserChanged(savedUser, "APPROVED");
 
         String message = "Congratulations! Your maintainer account has been approved. You can now log in and start accepting jobs.";
 
@@ -88,6 +94,7 @@ public class AdminServiceImpl implements AdminService {
         user.setApprovalStatus(ApprovalStatus.REJECTED);
         user.setActive(false);
         User savedUser = userRepository.save(user);
+        publishUserChanged(savedUser, "REJECTED");
 
         String message = "We regret to inform you that your maintainer registration has been rejected at this time.";
 
@@ -109,6 +116,7 @@ public class AdminServiceImpl implements AdminService {
         User user = findUserOrThrow(userId);
         user.setActive(false);
         User savedUser = userRepository.save(user);
+        publishUserChanged(savedUser, "DISABLED");
         return AdminUserView.fromEntity(savedUser);
     }
 
@@ -123,22 +131,38 @@ public class AdminServiceImpl implements AdminService {
 
         // 1. In-App Notification (DB Persist)
         NotificationEvent inAppEvent = NotificationEvent.builder()
-                .eventId(UUID.randomUUID())
+                .eventId(UuidV7.generate())
                 .recipientId(recipientId)
                 .channel(NotificationChannel.IN_APP)
                 .message(textMessage)
                 .build();
-        kafkaTemplate.send(notificationTopic, recipientId, inAppEvent);
+        outboxPublisher.enqueue(notificationTopic, recipientId, inAppEvent);
 
         // 2. Email Notification
         NotificationEvent emailEvent = NotificationEvent.builder()
-                .eventId(UUID.randomUUID())
+                .eventId(UuidV7.generate())
                 .recipientId(recipientId)
                 .channel(NotificationChannel.EMAIL)
                 .subject(subject)
                 .template(template)
                 .variables(vars)
                 .build();
-        kafkaTemplate.send(notificationTopic, recipientId, emailEvent);
+        outboxPublisher.enqueue(notificationTopic, recipientId, emailEvent);
+    }
+
+    // --- HELPER METHOD TO BROADCAST USER CHANGES (cache invalidation in other services) ---
+    private void publishUserChanged(User user, String changeType) {
+        UserChangedEvent event = UserChangedEvent.builder()
+                .eventId(UuidV7.generate())
+                .userId(user.getId())
+                .changeType(changeType)
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .role(user.getRole().name())
+                .active(user.isActive())
+                .build();
+        outboxPublisher.enqueue(userChangedTopic, user.getId().toString(), event);
     }
 }
@@ -1,5 +1,9 @@
 package com.maintenance_match.auth.service.impl;
 
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.outbox.OutboxPublisher;
+import com.maintenance_match.common.util.UuidV7;
 import com.maintenance_match.auth.dto.*;
 import com.maintenance_match.auth.exception.BadRequestException;
 import com.maintenance_match.auth.model.ApprovalStatus;
@@ -12,11 +16,11 @@ import com.maintenance_match.auth.service.JwtService;
 import com.maintenance_match.auth.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 import java.util.UUID;
@@ -30,12 +34,16 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxPublisher outboxPublisher;
 
     @Value("${app.kafka.topics.notification-send}")
     private String notificationTopic;
 
+    @Value("${app.kafka.topics.user-changed}")
+    private String userChangedTopic;
+
     @Override
+    @Transactional
     public JwtAuthenticationResponse signUpUser(SignUpRequest signUpRequest) {
         if (userRepository.findByEmail(signUpRequest.getEmail()).isPresent()) {
             throw new BadRequestException("Email address already in use.");
@@ -51,6 +59,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .isActive(true) // Active immediately
                 .build();
         userRepository.save(user);
+        publishUserChanged(user, "CREATED");
 
         // A regular user is logged in immediately after signing up
         String accessToken = jwtService.generateToken(user);
@@ -72,6 +81,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     @Override
+    @Transactional
     public void signUpMaintainer(SignUpRequest signUpRequest) {
         if (userRepository.findByEmail(signUpRequest.getEmail()).isPresent()) {
             throw new BadRequestException("Email address already in use.");
@@ -88,6 +98,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .approvalStatus(ApprovalStatus.PENDING) // Awaiting approval
                 .build();
         userRepository.save(user);
+        publishUserChanged(user, "CREATED");
 
         // --- SEND APPLICATION RECEIVED NOTIFICATION ---
         sendNotification(
@@ -135,22 +146,38 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         // 1. In-App Notification (DB Persist)
         NotificationEvent inAppEvent = NotificationEvent.builder()
-                .eventId(UUID.randomUUID())
+                .eventId(UuidV7.generate())
                 .recipientId(recipientId)
                 .channel(NotificationChannel.IN_APP)
                 .message(textMessage)
                 .build();
-        kafkaTemplate.send(notificationTopic, recipientId, inAppEvent);
+        outboxPublisher.enqueue(notificationTopic, recipientId, inAppEvent);
 
         // 2. Email Notification
         NotificationEvent emailEvent = NotificationEvent.builder()
-                .eventId(UUID.randomUUID())
+                .eventId(UuidV7.generate())
                 .recipientId(recipientId)
                 .channel(NotificationChannel.EMAIL)
                 .subject(subject)
                 .template(template)
                 .variables(vars)
                 .build();
-        kafkaTemplate.send(notificationTopic, recipientId, emailEvent);
+        outboxPublisher.enqueue(notificationTopic, recipientId, emailEvent);
+    }
+
+    // --- HELPER METHOD TO BROADCAST USER CHANGES (cache invalidation in other services) ---
+    private void publishUserChanged(User user, String changeType) {
+        UserChangedEvent event = UserChangedEvent.builder()
+                .eventId(UuidV7.generate())
+                .userId(user.getId())
+                .changeType(changeType)
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .role(user.getRole().name())
+                .active(user.isActive())
+                .build();
+        outboxPublisher.enqueue(userChangedTopic, user.getId().toString(), event);
     }
 }
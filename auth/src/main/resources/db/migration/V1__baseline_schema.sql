@@ -0,0 +1,31 @@
+-- The schema Hibernate generates from the entities, so a fresh database exists before the
+-- later migrations run. Existing databases are baselined at this version and skip it.
+CREATE TABLE IF NOT EXISTS users (
+    id              uuid PRIMARY KEY,
+    email           varchar(255) NOT NULL UNIQUE,
+    password        varchar(255) NOT NULL,
+    first_name      varchar(255),
+    last_name       varchar(255),
+    phone_number    varchar(255) NOT NULL,
+    role            varchar(255) NOT NULL,
+    approval_status varchar(255),
+    is_active       boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id          uuid PRIMARY KEY,
+    token       varchar(255)                NOT NULL UNIQUE,
+    expiry_date timestamp(6) with time zone NOT NULL,
+    user_id     uuid UNIQUE REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic         varchar(255) NOT NULL,
+    message_key   varchar(255) NOT NULL,
+    payload       bytea        NOT NULL,
+    attempts      integer      NOT NULL,
+    last_error    varchar(255),
+    claimed_until timestamp(6),
+    created_at    timestamp(6) NOT NULL
+);
@@ -0,0 +1,14 @@
+-- outbox_events.payload held the event as JSON text until events were stored in their wire
+-- format. ddl-auto does not change column types, so convert an existing text column here.
+-- Pending JSON rows become their UTF-8 bytes, which is exactly what the relay used to send.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = 'outbox_events'
+                 AND column_name = 'payload'
+                 AND data_type <> 'bytea') THEN
+        ALTER TABLE outbox_events ALTER COLUMN payload TYPE bytea USING convert_to(payload, 'UTF8');
+    END IF;
+END $$;
@@ -1,9 +1,11 @@
 package com.maintenance_match.auth.service;
 
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.outbox.OutboxPublisher;
 import com.maintenance_match.auth.dto.AdminUserView;
 import com.maintenance_match.auth.dto.MaintainerProfileEvent;
-import com.maintenance_match.auth.dto.NotificationChannel;
-import com.maintenance_match.auth.dto.NotificationEvent;
+import com.maintenance_match.auth.dto.UserChangedEvent;
 import com.maintenance_match.auth.exception.ResourceNotFoundException;
 import com.maintenance_match.auth.model.ApprovalStatus;
 import com.maintenance_match.auth.model.Role;
@@ -17,7 +19,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -37,13 +38,14 @@ class AdminServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private OutboxPublisher outboxPublisher;
 
     @InjectMocks
     private AdminServiceImpl adminService;
 
     private final String NOTIF_TOPIC = "notif-topic";
     private final String MAINTAINER_TOPIC = "maintainer-topic";
+    private final String USER_CHANGED_TOPIC = "user-changed-topic";
     private UUID testId;
     private User testUser;
 
@@ -52,6 +54,7 @@ class AdminServiceImplTest {
         // Set @Value fields manually
         ReflectionTestUtils.setField(adminService, "notificationTopic", NOTIF_TOPIC);
         ReflectionTestUtils.setField(adminService, "maintainerTopic", MAINTAINER_TOPIC);
+        ReflectionTestUtils.setField(adminService, "userChangedTopic", USER_CHANGED_TOPIC);
 
         testId = UUID.randomUUID();
         testUser = User.builder()
@@ -79,17 +82,20 @@ class AdminServiceImplTest {
         assertThat(result.isActive()).isTrue();
 
         // 1. Verify Maintainer Profile Creation Event
-        verify(kafkaTemplate).send(eq(MAINTAINER_TOPIC), eq(testId.toString()), any(MaintainerProfileEvent.class));
+        verify(outboxPublisher).enqueue(eq(MAINTAINER_TOPIC), eq(testId.toString()), any(MaintainerProfileEvent.class));
 
         // 2. Verify Notifications (Should send 2: IN_APP and EMAIL)
         ArgumentCaptor<NotificationEvent> notifCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
-        verify(kafkaTemplate, times(2)).send(eq(NOTIF_TOPIC), eq(testId.toString()), notifCaptor.capture());
+        verify(outboxPublisher, times(2)).enqueue(eq(NOTIF_TOPIC), eq(testId.toString()), notifCaptor.capture());
 
         List<NotificationEvent> sentEvents = notifCaptor.getAllValues();
         assertThat(sentEvents).extracting(NotificationEvent::getChannel)
                 .containsExactlyInAnyOrder(NotificationChannel.IN_APP, NotificationChannel.EMAIL);
 
         assertThat(sentEvents.get(0).getTemplate()).isEqualTo("maintainer-approved");
+
+        // 3. Verify User Changed Event
+        verify(outboxPublisher).enqueue(eq(USER_CHANGED_TOPIC), eq(testId.toString()), any(UserChangedEvent.class));
     }
 
     @Test
@@ -106,10 +112,10 @@ class AdminServiceImplTest {
         assertThat(result.isActive()).isFalse();
 
         // Verify no maintainer profile was created
-        verify(kafkaTemplate, never()).send(eq(MAINTAINER_TOPIC), anyString(), any());
+        verify(outboxPublisher, never()).enqueue(eq(MAINTAINER_TOPIC), anyString(), any());
 
         // Verify Notifications
-        verify(kafkaTemplate, times(2)).send(eq(NOTIF_TOPIC), eq(testId.toString()), any(NotificationEvent.class));
+        verify(outboxPublisher, times(2)).enqueue(eq(NOTIF_TOPIC), eq(testId.toString()), any(NotificationEvent.class));
     }
 
     @Test
@@ -125,8 +131,13 @@ class AdminServiceImplTest {
         // Then
         assertThat(result.isActive()).isFalse();
         verify(userRepository).save(testUser);
-        // Ensure no Kafka events for simple disabling (unless you decide to add them later)
-        verifyNoInteractions(kafkaTemplate);
+        // Only the user-changed event is published so other services drop their cached copy
+        ArgumentCaptor<UserChangedEvent> changeCaptor = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(outboxPublisher).enqueue(eq(USER_CHANGED_TOPIC), eq(testId.toString()), changeCaptor.capture());
+        assertThat(changeCaptor.getValue().getChangeType()).isEqualTo("DISABLED");
+        assertThat(changeCaptor.getValue().isActive()).isFalse();
+        verify(outboxPublisher, never()).enqueue(eq(NOTIF_TOPIC), anyString(), any());
+        verify(outboxPublisher, never()).enqueue(eq(MAINTAINER_TOPIC), anyString(), any());
     }
 
     @Test
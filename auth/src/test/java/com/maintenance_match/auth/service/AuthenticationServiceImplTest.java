@@ -1,5 +1,8 @@
 package com.maintenance_match.auth.service;
 
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.outbox.OutboxPublisher;
 import com.maintenance_match.auth.dto.*;
 import com.maintenance_match.auth.exception.BadRequestException;
 import com.maintenance_match.auth.model.ApprovalStatus;
@@ -15,7 +18,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -45,7 +47,7 @@ class AuthenticationServiceImplTest {
     @Mock
     private RefreshTokenService refreshTokenService;
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private OutboxPublisher outboxPublisher;
 
     @InjectMocks
     private AuthenticationServiceImpl authenticationService;
@@ -56,6 +58,7 @@ class AuthenticationServiceImplTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(authenticationService, "notificationTopic", NOTIF_TOPIC);
+        ReflectionTestUtils.setField(authenticationService, "userChangedTopic", "user-changed-topic");
 
         signUpRequest = SignUpRequest.builder()
                 .firstName("Kidus")
@@ -86,9 +89,9 @@ class AuthenticationServiceImplTest {
         assertThat(savedUser.isActive()).isTrue();
         assertThat(savedUser.getApprovalStatus()).isNull();
 
-        // 2. Verify Kafka Notifications (Helper method calls send twice)
+        // 2. Verify queued notifications (Helper method enqueues twice)
         ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
-        verify(kafkaTemplate, times(2)).send(eq(NOTIF_TOPIC), anyString(), eventCaptor.capture());
+        verify(outboxPublisher, times(2)).enqueue(eq(NOTIF_TOPIC), anyString(), eventCaptor.capture());
 
         List<NotificationEvent> events = eventCaptor.getAllValues();
         assertThat(events).extracting(NotificationEvent::getChannel)
@@ -132,7 +135,7 @@ class AuthenticationServiceImplTest {
         assertThat(savedUser.getApprovalStatus()).isEqualTo(ApprovalStatus.PENDING);
 
         // Verify Notifications sent (Email + InApp)
-        verify(kafkaTemplate, times(2)).send(eq(NOTIF_TOPIC), anyString(), any(NotificationEvent.class));
+        verify(outboxPublisher, times(2)).enqueue(eq(NOTIF_TOPIC), anyString(), any(NotificationEvent.class));
 
         // Ensure NO tokens are generated (Maintainer can't log in yet)
         verifyNoInteractions(jwtService, refreshTokenService);
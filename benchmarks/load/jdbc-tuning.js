@@ -0,0 +1,101 @@
+// Write-heavy load test through the gateway: every iteration creates a job with a nearby
+// maintainer and cancels it again, so each one inserts a job and its outbox events in matching
+// and, via Kafka, in-app notification rows in notification. Run it once against the default
+// configuration and once with SPRING_PROFILES_ACTIVE=prod, then compare the summaries.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=default benchmarks/load/jdbc-tuning.js
+//
+// jobs_created is the createJob throughput. The teardown prints how many notifications the
+// notification service stored per second over the run, and how long marking them all read took.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = parseInt(__ENV.USERS || '200');
+const DURATION = __ENV.DURATION || '3m';
+const EMAIL = __ENV.EMAIL || 'load-test@example.com';
+const PASSWORD = __ENV.PASSWORD || 'LoadTest123!';
+// Time for the notification consumers to drain what the run produced
+const DRAIN_SECONDS = parseInt(__ENV.DRAIN_SECONDS || '15');
+
+const jobsCreated = new Counter('jobs_created');
+
+export const options = {
+    scenarios: {
+        create_and_cancel: {
+            executor: 'constant-vus',
+            vus: USERS,
+            duration: DURATION,
+        },
+    },
+    thresholds: {
+        'http_req_failed{endpoint:create-job}': ['rate<0.05'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: __ENV.MODE || 'unspecified' },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function authHeaders(token) {
+    return { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' };
+}
+
+function unreadCount(token) {
+    const res = http.get(`${BASE_URL}/api/notifications/unread-count`, { headers: authHeaders(token) });
+    return res.status === 200 ? parseInt(res.body) : 0;
+}
+
+// One shared account keeps the test about the write path rather than BCrypt throughput
+export function setup() {
+    http.post(`${BASE_URL}/api/auth/signup/user`, JSON.stringify({
+        firstName: 'Load', lastName: 'Test', email: EMAIL, phoneNumber: '+251900000000', password: PASSWORD,
+    }), { headers: JSON_HEADERS });
+
+    const login = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }), { headers: JSON_HEADERS });
+    check(login, { 'logged in': (r) => r.status === 200 });
+    const token = login.json('accessToken');
+
+    const nearby = http.get(
+        `${BASE_URL}/api/matching/maintainers/nearby?latitude=9.02&longitude=38.75&radius=10000&limit=100`,
+        { headers: authHeaders(token) });
+    const maintainers = (nearby.json('items') || []).map((m) => m.id);
+    if (maintainers.length === 0) {
+        throw new Error('No available maintainers near Addis Ababa; seed some before running');
+    }
+
+    return { token, maintainers, unreadBefore: unreadCount(token), startedAt: Date.now() };
+}
+
+export default function (data) {
+    const maintainerId = data.maintainers[Math.floor(Math.random() * data.maintainers.length)];
+    const created = http.post(`${BASE_URL}/api/matching/jobs`, JSON.stringify({
+        maintainerId,
+        problemDescription: 'Load test: leaking kitchen tap',
+        latitude: 8.95 + Math.random() * 0.15,
+        longitude: 38.70 + Math.random() * 0.15,
+    }), { headers: authHeaders(data.token), tags: { endpoint: 'create-job' } });
+
+    // 400 means the maintainer is at capacity; other virtual users will free it again
+    if (created.status === 201) {
+        jobsCreated.add(1);
+        const cancelled = http.post(`${BASE_URL}/api/matching/jobs/${created.json('id')}/cancel`, null,
+            { headers: authHeaders(data.token), tags: { endpoint: 'cancel-job' } });
+        check(cancelled, { 'cancel 200': (r) => r.status === 200 });
+    }
+
+    sleep(Math.random() * 0.2);
+}
+
+export function teardown(data) {
+    sleep(DRAIN_SECONDS);
+    const stored = unreadCount(data.token) - data.unreadBefore;
+    const seconds = (Date.now() - data.startedAt) / 1000 - DRAIN_SECONDS;
+    console.log(`notifications stored: ${stored} (${(stored / seconds).toFixed(1)}/s over ${seconds.toFixed(0)}s)`);
+
+    const readAll = http.put(`${BASE_URL}/api/notifications/read-all`, null, { headers: authHeaders(data.token) });
+    check(readAll, { 'read-all 200': (r) => r.status === 200 });
+    console.log(`read-all over ${stored} notifications: ${readAll.timings.duration.toFixed(0)} ms`);
+}
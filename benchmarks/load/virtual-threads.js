@@ -0,0 +1,72 @@
+// Closed-model load test through the gateway: 2,000 concurrent users, each repeatedly
+// searching for nearby maintainers and listing their jobs. Run it once against the stack
+// with VIRTUAL_THREADS_ENABLED=false and once with true, then compare the p99 lines.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform benchmarks/load/virtual-threads.js
+//
+// The thresholds fail the run if p99 latency exceeds P99_MS (default 1000) or more than 1% of
+// requests fail. Watch hikaricp_connections_acquire_seconds on the services alongside it.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = parseInt(__ENV.USERS || '2000');
+const P99_MS = parseInt(__ENV.P99_MS || '1000');
+const EMAIL = __ENV.EMAIL || 'load-test@example.com';
+const PASSWORD = __ENV.PASSWORD || 'LoadTest123!';
+
+export const options = {
+    scenarios: {
+        browse: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: USERS },
+                { duration: '3m', target: USERS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{endpoint:nearby}': [`p(99)<${P99_MS}`],
+        'http_req_duration{endpoint:my-jobs}': [`p(99)<${P99_MS}`],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: __ENV.MODE || 'unspecified' },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// One shared account keeps the test about request handling rather than BCrypt throughput
+export function setup() {
+    http.post(`${BASE_URL}/api/auth/signup/user`, JSON.stringify({
+        firstName: 'Load', lastName: 'Test', email: EMAIL, phoneNumber: '+251900000000', password: PASSWORD,
+    }), { headers: JSON_HEADERS });
+
+    const login = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }), { headers: JSON_HEADERS });
+    check(login, { 'logged in': (r) => r.status === 200 });
+    return { token: login.json('accessToken') };
+}
+
+export default function (data) {
+    const params = (endpoint) => ({
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { endpoint },
+    });
+
+    // Searches spread over Addis Ababa so the nearby cache does not absorb everything
+    const lat = 8.95 + Math.random() * 0.15;
+    const lon = 38.70 + Math.random() * 0.15;
+    const nearby = http.get(
+        `${BASE_URL}/api/matching/maintainers/nearby?latitude=${lat}&longitude=${lon}&radius=5000`,
+        params('nearby'));
+    check(nearby, { 'nearby 200': (r) => r.status === 200 });
+
+    const jobs = http.get(`${BASE_URL}/api/matching/jobs/my-jobs?size=20`, params('my-jobs'));
+    check(jobs, { 'my-jobs 200': (r) => r.status === 200 });
+
+    sleep(0.5 + Math.random());
+}
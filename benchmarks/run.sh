@@ -0,0 +1,14 @@
+#!/usr/bin/env sh
+# Runs the JMH suites and writes machine-readable results to results/<commit>.json.
+# Any arguments are passed through to JMH, e.g. ./run.sh JwtValidationBenchmark -f 2
+set -e
+
+cd "$(dirname "$0")"
+COMMIT=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- ..; then
+    COMMIT="${COMMIT}-dirty"
+fi
+
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/${COMMIT}.json" "$@"
+echo "Results written to benchmarks/results/${COMMIT}.json"
@@ -0,0 +1,89 @@
+package com.maintenance_match.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, typically {@code results/<base>.json} and
+ * {@code results/<head>.json} written by {@code run.sh}.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.maintenance_match.benchmarks.ResultComparator <base.json> <head.json> [threshold-percent]}
+ * <p>
+ * Exits with status 1 if any benchmark present in both files got slower by more than the
+ * threshold (default 10%), so it can gate a CI job.
+ */
+public final class ResultComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private ResultComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultComparator <base.json> <head.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, JsonNode> base = load(new File(args[0]));
+        Map<String, JsonNode> head = load(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Base", "Head", "Change");
+        for (Map.Entry<String, JsonNode> entry : new TreeMap<>(head).entrySet()) {
+            JsonNode before = base.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double afterScore = after.path("primaryMetric").path("score").asDouble();
+            String unit = after.path("primaryMetric").path("scoreUnit").asText();
+
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", afterScore, "new", unit);
+                continue;
+            }
+
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            double change = beforeScore == 0 ? 0 : (afterScore - beforeScore) / beforeScore * 100.0;
+            // Throughput is better when higher; every other JMH mode reports time, better when lower
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double slowdown = higherIsBetter ? -change : change;
+            boolean regressed = slowdown > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n",
+                    entry.getKey(), beforeScore, afterScore, change, unit, regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.maintenance_match.benchmarks.", ""));
+            JsonNode params = result.path("params");
+            if (!params.isMissingNode()) {
+                new TreeMap<>(toMap(params)).forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static Map<String, String> toMap(JsonNode node) {
+        Map<String, String> map = new LinkedHashMap<>();
+        node.fields().forEachRemaining(field -> map.put(field.getKey(), field.getValue().asText()));
+        return map;
+    }
+}
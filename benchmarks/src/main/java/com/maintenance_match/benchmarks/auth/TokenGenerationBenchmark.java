@@ -0,0 +1,77 @@
+package com.maintenance_match.benchmarks.auth;
+
+import com.maintenance_match.auth.model.ApprovalStatus;
+import com.maintenance_match.auth.model.Role;
+import com.maintenance_match.auth.model.User;
+import com.maintenance_match.auth.service.impl.JwtServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing an access token on login: {@link JwtServiceImpl#generateToken}, which
+ * signs every token with RS256.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenGenerationBenchmark {
+
+    private JwtServiceImpl jwtService;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        KeyPair pair = keyGen.generateKeyPair();
+
+        // Wire the service the way Spring would, with freshly generated PEM resources
+        jwtService = new JwtServiceImpl();
+        setField("accessTokenExpiration", TimeUnit.MINUTES.toMillis(15));
+        setField("privateKeyResource", pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        setField("publicKeyResource", pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+        jwtService.init();
+
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("abebe.kebede@example.com")
+                .password("not-used")
+                .firstName("Abebe")
+                .lastName("Kebede")
+                .phoneNumber("+251911000000")
+                .role(Role.USER)
+                .approvalStatus(ApprovalStatus.APPROVED)
+                .build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtServiceImpl.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtService, value);
+    }
+
+    private static Resource pem(String type, byte[] der) {
+        String pem = "-----BEGIN " + type + "-----" + System.lineSeparator()
+                + Base64.getEncoder().encodeToString(der) + System.lineSeparator()
+                + "-----END " + type + "-----" + System.lineSeparator();
+        return new ByteArrayResource(pem.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,90 @@
+package com.maintenance_match.benchmarks.gateway;
+
+import com.maintenance_match.api_gateway.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of bearer token validation in the gateway's AuthenticationFilter.
+ * <ul>
+ *     <li>{@code legacyFilterPath}: the original filter, which built a new parser and verified the signature twice.</li>
+ *     <li>{@code reusedParser}: a single verification with the parser cached per public key.</li>
+ *     <li>{@code cachedClaims}: {@link JwtUtil#validateAndGetClaims}, which skips verification for tokens already seen.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    // Number of distinct bearer tokens cycled through, i.e. concurrently active sessions
+    @Param({"1", "1000"})
+    private int distinctTokens;
+
+    private JwtUtil jwtUtil;
+    private PublicKey publicKey;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        KeyPair pair = keyGen.generateKeyPair();
+        publicKey = pair.getPublic();
+        jwtUtil = new JwtUtil();
+
+        tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = Jwts.builder()
+                    .setSubject(UUID.randomUUID().toString())
+                    .claim("role", "USER")
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                    .signWith(pair.getPrivate(), SignatureAlgorithm.RS256)
+                    .compact();
+        }
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+
+    @Benchmark
+    public Claims legacyFilterPath() {
+        String token = nextToken();
+        // isTokenValid -> extractExpiration -> full parse
+        Date expiration = Jwts.parserBuilder().setSigningKey(publicKey).build()
+                .parseClaimsJws(token).getBody().getExpiration();
+        if (expiration.before(new Date())) {
+            throw new IllegalStateException("Token expired");
+        }
+        // extractAllClaims -> second full parse
+        return Jwts.parserBuilder().setSigningKey(publicKey).build()
+                .parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims reusedParser() {
+        return jwtUtil.extractAllClaims(nextToken(), publicKey);
+    }
+
+    @Benchmark
+    public Claims cachedClaims() {
+        return jwtUtil.validateAndGetClaims(nextToken(), publicKey);
+    }
+}
@@ -0,0 +1,108 @@
+package com.maintenance_match.benchmarks.matching;
+
+import com.maintenance_match.matching.dto.JobDto;
+import com.maintenance_match.matching.dto.MaintainerDto;
+import com.maintenance_match.matching.dto.UserDto;
+import com.maintenance_match.matching.model.Job;
+import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.model.JobSummary;
+import com.maintenance_match.matching.model.Maintainer;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping in the matching service, measured per response rather than per
+ * element: a nearby-search result list and a page of "my jobs" with both participants resolved.
+ * Job pages are read as {@link JobSummary} projections, so that is what the job mapping starts from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    // Elements per response: a typical page, and a large nearby-search result
+    @Param({"20", "500"})
+    private int size;
+
+    private List<Maintainer> maintainers;
+    private List<JobSummary> jobs;
+    private Map<UUID, Maintainer> maintainersById;
+    private Map<UUID, UserDto> usersById;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        Random random = new Random(42);
+
+        maintainers = new ArrayList<>(size);
+        jobs = new ArrayList<>(size);
+        maintainersById = new HashMap<>();
+        usersById = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Maintainer maintainer = Maintainer.builder()
+                    .id(UUID.randomUUID())
+                    .userId(UUID.randomUUID())
+                    .name("Maintainer " + i)
+                    .isAvailable(true)
+                    .location(geometryFactory.createPoint(new Coordinate(
+                            38.7 + random.nextDouble() * 0.1, 9.0 + random.nextDouble() * 0.1)))
+                    .build();
+            maintainers.add(maintainer);
+            maintainersById.put(maintainer.getId(), maintainer);
+
+            Job job = Job.builder()
+                    .id(UUID.randomUUID())
+                    .userId(UUID.randomUUID())
+                    .maintainerId(maintainer.getId())
+                    .status(JobStatus.values()[i % JobStatus.values().length])
+                    .problemDescription("Leaking kitchen sink, request " + i)
+                    .createdAt(LocalDateTime.now().minusMinutes(i))
+                    .build();
+            jobs.add(JobSummary.from(job));
+
+            usersById.put(job.getUserId(), user(job.getUserId(), "Customer", i));
+            usersById.put(maintainer.getUserId(), user(maintainer.getUserId(), "Maintainer", i));
+        }
+    }
+
+    @Benchmark
+    public List<MaintainerDto> maintainerDtos() {
+        List<MaintainerDto> result = new ArrayList<>(maintainers.size());
+        for (Maintainer maintainer : maintainers) {
+            result.add(MaintainerDto.fromEntity(maintainer));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<JobDto> jobDtos() {
+        List<JobDto> result = new ArrayList<>(jobs.size());
+        for (JobSummary job : jobs) {
+            Maintainer maintainer = maintainersById.get(job.getMaintainerId());
+            result.add(JobDto.from(job,
+                    JobDto.ParticipantDto.from(job.getUserId(), usersById.get(job.getUserId())),
+                    JobDto.ParticipantDto.from(maintainer.getUserId(), usersById.get(maintainer.getUserId()))));
+        }
+        return result;
+    }
+
+    private static UserDto user(UUID id, String firstName, int i) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(String.valueOf(i));
+        user.setPhoneNumber("+2519110" + String.format("%05d", i));
+        user.setEmail(firstName.toLowerCase() + i + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,200 @@
+package com.maintenance_match.benchmarks.matching;
+
+import com.maintenance_match.matching.dto.MaintainerDto;
+import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.repository.MaintainerRepository;
+import com.maintenance_match.matching.service.MaintainerSpatialIndex;
+import com.maintenance_match.matching.service.NearbySearchMode;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearby maintainer search at increasing fleet sizes, against the same PostGIS image the
+ * integration tests use.
+ * <ul>
+ *     <li>{@code database}: the exact native query from
+ *     {@link MaintainerRepository#findAvailableMaintainersWithinRadius}, run over plain JDBC.</li>
+ *     <li>{@code memoryIndex}: the same search answered by {@link MaintainerSpatialIndex}.</li>
+ * </ul>
+ * Maintainers are spread uniformly over a 12° x 15° box (roughly the size of Ethiopia), so a
+ * 5 km search returns tens of rows at 1M maintainers.
+ * <p>
+ * Requires Docker. Seeding 1M rows takes about a minute.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NearbySearchBenchmark {
+
+    private static final double MIN_LAT = 3.0;
+    private static final double MAX_LAT = 15.0;
+    private static final double MIN_LON = 33.0;
+    private static final double MAX_LON = 48.0;
+    private static final double RADIUS_METERS = 5_000;
+    private static final int SEARCH_CENTERS = 1_024;
+
+    // Mirrors the schema Hibernate generates from the Maintainer entity
+    private static final String CREATE_TABLE = """
+            CREATE TABLE maintainers (
+                id uuid PRIMARY KEY,
+                user_id uuid NOT NULL UNIQUE,
+                name varchar(255) NOT NULL,
+                is_available boolean NOT NULL,
+                location geometry(Point,4326),
+                capacity integer NOT NULL,
+                active_jobs integer NOT NULL
+            )""";
+
+    // Roughly 80% available, and a third of those already at capacity
+    private static final String SEED = """
+            INSERT INTO maintainers (id, user_id, name, is_available, location, capacity, active_jobs)
+            SELECT gen_random_uuid(), gen_random_uuid(), 'Maintainer ' || i, random() < 0.8,
+                   ST_SetSRID(ST_MakePoint(?::float8 + random() * (?::float8 - ?::float8),
+                                           ?::float8 + random() * (?::float8 - ?::float8)), 4326),
+                   2, floor(random() * 3)::int
+            FROM generate_series(1, ?) AS i""";
+
+    @Param({"10000", "100000", "1000000"})
+    private int maintainers;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement nearbyQuery;
+    private MaintainerSpatialIndex spatialIndex;
+    private double[][] centers;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgis/postgis:15-3.4")
+                .asCompatibleSubstituteFor("postgres"));
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            statement.execute("SELECT setseed(0.42)");
+        }
+        try (PreparedStatement seed = connection.prepareStatement(SEED)) {
+            seed.setDouble(1, MIN_LON);
+            seed.setDouble(2, MAX_LON);
+            seed.setDouble(3, MIN_LON);
+            seed.setDouble(4, MIN_LAT);
+            seed.setDouble(5, MAX_LAT);
+            seed.setDouble(6, MIN_LAT);
+            seed.setInt(7, maintainers);
+            seed.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE maintainers");
+        }
+
+        nearbyQuery = connection.prepareStatement(repositoryQuery()
+                .replace(":point", "ST_SetSRID(ST_MakePoint(?, ?), 4326)")
+                .replace(":radius", "?"));
+
+        List<Maintainer> snapshot = loadMaintainers();
+        MaintainerRepository repository = (MaintainerRepository) Proxy.newProxyInstance(
+                MaintainerRepository.class.getClassLoader(),
+                new Class<?>[]{MaintainerRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return snapshot;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        spatialIndex = new MaintainerSpatialIndex(repository, NearbySearchMode.MEMORY, 0.05);
+        spatialIndex.rebuild();
+
+        Random random = new Random(7);
+        centers = new double[SEARCH_CENTERS][];
+        for (int i = 0; i < SEARCH_CENTERS; i++) {
+            centers[i] = new double[]{
+                    MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT),
+                    MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON)};
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public void database(Blackhole blackhole) throws SQLException {
+        double[] center = nextCenter();
+        nearbyQuery.setDouble(1, center[1]);
+        nearbyQuery.setDouble(2, center[0]);
+        nearbyQuery.setDouble(3, RADIUS_METERS);
+        try (ResultSet rs = nearbyQuery.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getObject("id"));
+                blackhole.consume(rs.getString("name"));
+                blackhole.consume(rs.getObject("location"));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<MaintainerDto> memoryIndex() {
+        double[] center = nextCenter();
+        return spatialIndex.findAvailableWithinRadius(center[0], center[1], RADIUS_METERS);
+    }
+
+    private double[] nextCenter() {
+        double[] center = centers[next];
+        next = (next + 1) % centers.length;
+        return center;
+    }
+
+    private static String repositoryQuery() throws NoSuchMethodException {
+        return MaintainerRepository.class
+                .getMethod("findAvailableMaintainersWithinRadius", Point.class, double.class)
+                .getAnnotation(Query.class)
+                .value();
+    }
+
+    private List<Maintainer> loadMaintainers() throws SQLException {
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        List<Maintainer> result = new ArrayList<>(maintainers);
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, user_id, name, is_available, capacity, active_jobs, " +
+                     "ST_X(location) AS lon, ST_Y(location) AS lat FROM maintainers")) {
+            while (rs.next()) {
+                result.add(Maintainer.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .userId(rs.getObject("user_id", UUID.class))
+                        .name(rs.getString("name"))
+                        .isAvailable(rs.getBoolean("is_available"))
+                        .capacity(rs.getInt("capacity"))
+                        .activeJobs(rs.getInt("active_jobs"))
+                        .location(geometryFactory.createPoint(new Coordinate(rs.getDouble("lon"), rs.getDouble("lat"))))
+                        .build());
+            }
+        }
+        return result;
+    }
+}
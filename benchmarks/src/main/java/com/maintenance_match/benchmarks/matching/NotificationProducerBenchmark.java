@@ -0,0 +1,138 @@
+package com.maintenance_match.benchmarks.matching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.matching.config.KafkaProducerConfig;
+import com.maintenance_match.matching.config.KafkaProducerProfile;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.kafka.KafkaContainer;
+
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox relay sends to a single-node Kafka broker, once with client defaults and once per
+ * compression codec of the throughput profile from {@link KafkaProducerConfig#applyProfile}.
+ * <p>
+ * One operation is a relay batch: {@value #FAN_OUT} notification events for
+ * {@value #RECIPIENTS} recipients, sent and then awaited like {@code OutboxRelay} does, so
+ * the score is records per second. Batch size and compression ratio are printed when each
+ * trial ends. Requires Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NotificationProducerBenchmark {
+
+    private static final String TOPIC = "notification.send";
+    private static final int PARTITIONS = 3;
+    private static final int FAN_OUT = 1_000;
+    private static final int RECIPIENTS = 250;
+    // The values application.yaml ships for the throughput profile
+    private static final int LINGER_MS = 20;
+    private static final int BATCH_SIZE = 65_536;
+
+    @Param({"default", "throughput-lz4", "throughput-zstd"})
+    private String producer;
+
+    private KafkaContainer kafka;
+    private KafkaProducer<String, byte[]> kafkaProducer;
+    private List<ProducerRecord<String, byte[]>> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        kafka = new KafkaContainer("apache/kafka:3.7.0");
+        kafka.start();
+        try (AdminClient admin = AdminClient.create(Map.of("bootstrap.servers", kafka.getBootstrapServers()))) {
+            admin.createTopics(List.of(new NewTopic(TOPIC, PARTITIONS, (short) 1))).all().get();
+        }
+
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        if (producer.startsWith("throughput-")) {
+            String compressionType = producer.substring("throughput-".length());
+            KafkaProducerConfig.applyProfile(props, KafkaProducerProfile.THROUGHPUT, compressionType, LINGER_MS, BATCH_SIZE);
+        }
+        kafkaProducer = new KafkaProducer<>(props);
+
+        batch = buildBatch(new ObjectMapper());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s: batch-size-avg=%.0f bytes, compression-rate-avg=%.3f, request-latency-avg=%.1f ms%n",
+                producer, metric("batch-size-avg"), metric("compression-rate-avg"), metric("request-latency-avg"));
+        kafkaProducer.close();
+        kafka.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FAN_OUT)
+    public int sendFanOut() throws Exception {
+        List<Future<RecordMetadata>> acks = new ArrayList<>(batch.size());
+        for (ProducerRecord<String, byte[]> record : batch) {
+            acks.add(kafkaProducer.send(record));
+        }
+        int acked = 0;
+        for (Future<RecordMetadata> ack : acks) {
+            ack.get();
+            acked++;
+        }
+        return acked;
+    }
+
+    /**
+     * Alternating in-app and email events, as createJob and terminateJob queue them.
+     */
+    private static List<ProducerRecord<String, byte[]>> buildBatch(ObjectMapper objectMapper) throws Exception {
+        List<String> recipients = new ArrayList<>(RECIPIENTS);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            recipients.add(UUID.randomUUID().toString());
+        }
+
+        List<ProducerRecord<String, byte[]>> records = new ArrayList<>(FAN_OUT);
+        for (int i = 0; i < FAN_OUT; i++) {
+            String recipientId = recipients.get(i % RECIPIENTS);
+            NotificationEvent.NotificationEventBuilder event = NotificationEvent.builder()
+                    .eventId(UUID.randomUUID())
+                    .recipientId(recipientId);
+            if (i % 2 == 0) {
+                event.channel(NotificationChannel.IN_APP)
+                        .message("New job: Leaking kitchen sink #" + i);
+            } else {
+                event.channel(NotificationChannel.EMAIL)
+                        .subject("New Job Assigned")
+                        .template("job-matched-maintainer")
+                        .variables(Map.of("problem", "Leaking kitchen sink #" + i));
+            }
+            records.add(new ProducerRecord<>(TOPIC, recipientId, objectMapper.writeValueAsBytes(event.build())));
+        }
+        return records;
+    }
+
+    private double metric(String name) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : kafkaProducer.metrics().entrySet()) {
+            if (entry.getKey().name().equals(name) && entry.getKey().group().equals("producer-metrics")) {
+                return ((Number) entry.getValue().metricValue()).doubleValue();
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,86 @@
+package com.maintenance_match.benchmarks.notification;
+
+import com.maintenance_match.notification.service.impl.EmailServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.util.ReflectionUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email composition in the notification service, using the templates packaged with it.
+ * <ul>
+ *     <li>{@code render}: Thymeleaf processing only.</li>
+ *     <li>{@code compose}: {@link EmailServiceImpl#sendHtmlEmail} end to end with the SMTP hand-off stubbed out,
+ *     i.e. rendering plus building the MIME message.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    @Param({"welcome-email", "job-matched-user"})
+    private String template;
+
+    private SpringTemplateEngine templateEngine;
+    private EmailServiceImpl emailService;
+    private Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Mirrors Spring Boot's Thymeleaf auto-configuration defaults
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        emailService = new EmailServiceImpl(new NoOpMailSender(), templateEngine, new SimpleMeterRegistry());
+        Field fromEmail = ReflectionUtils.findField(EmailServiceImpl.class, "fromEmail");
+        ReflectionUtils.makeAccessible(fromEmail);
+        ReflectionUtils.setField(fromEmail, emailService, "no-reply@maintenance-match.com");
+
+        variables = Map.of(
+                "name", "Almaz Tesfaye",
+                "maintainerName", "Abebe Kebede",
+                "problem", "Leaking kitchen sink");
+    }
+
+    @Benchmark
+    public String render() {
+        Context context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(template, context);
+    }
+
+    @Benchmark
+    public void compose() {
+        emailService.sendHtmlEmail("almaz@example.com", "Benchmark", template, variables);
+    }
+
+    /**
+     * Builds real MIME messages but never opens an SMTP connection.
+     */
+    private static class NoOpMailSender extends JavaMailSenderImpl {
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            // Intentionally empty
+        }
+    }
+}
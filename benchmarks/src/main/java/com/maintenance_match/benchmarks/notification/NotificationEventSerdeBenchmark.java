@@ -0,0 +1,124 @@
+package com.maintenance_match.benchmarks.notification;
+
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.util.NotificationEventAvroCodec;
+import com.maintenance_match.notification.util.NotificationEventDeserializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka value serde for notification events in both wire formats: a {@link JsonSerializer}
+ * without type headers as the producers use it and the shared Avro codec, each read back by the
+ * notification service's {@link NotificationEventDeserializer}. The serialized size of
+ * every payload is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationEventSerdeBenchmark {
+
+    private static final String TOPIC = "notifications";
+
+    private JsonSerializer<NotificationEvent> serializer;
+    private JsonDeserializer<NotificationEvent> deserializer;
+    private NotificationEventDeserializer migratingDeserializer;
+
+    private NotificationEvent inAppEvent;
+    private NotificationEvent emailEvent;
+    private byte[] inAppPayload;
+    private byte[] emailPayload;
+    private byte[] inAppAvroPayload;
+    private byte[] emailAvroPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        serializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        deserializer = new JsonDeserializer<>(NotificationEvent.class);
+        deserializer.addTrustedPackages("com.maintenance_match.common.dto");
+        migratingDeserializer = new NotificationEventDeserializer();
+        migratingDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.maintenance_match.common.dto"), false);
+
+        String recipientId = UUID.randomUUID().toString();
+        inAppEvent = NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(recipientId)
+                .channel(NotificationChannel.IN_APP)
+                .message("You have been matched with Abebe Kebede for: Leaking kitchen sink")
+                .build();
+        emailEvent = NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(recipientId)
+                .channel(NotificationChannel.EMAIL)
+                .subject("Your maintainer is on the way")
+                .template("job-matched-user")
+                .variables(Map.of(
+                        "name", "Almaz Tesfaye",
+                        "maintainerName", "Abebe Kebede",
+                        "maintainerPhone", "+251911000000",
+                        "problemDescription", "Leaking kitchen sink"))
+                .build();
+
+        inAppPayload = serializer.serialize(TOPIC, inAppEvent);
+        emailPayload = serializer.serialize(TOPIC, emailEvent);
+        inAppAvroPayload = NotificationEventAvroCodec.encode(inAppEvent);
+        emailAvroPayload = NotificationEventAvroCodec.encode(emailEvent);
+
+        System.out.printf("%nPayload bytes: in-app json=%d avro=%d, email json=%d avro=%d%n",
+                inAppPayload.length, inAppAvroPayload.length, emailPayload.length, emailAvroPayload.length);
+    }
+
+    @Benchmark
+    public byte[] serializeInApp() {
+        return serializer.serialize(TOPIC, inAppEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeEmail() {
+        return serializer.serialize(TOPIC, emailEvent);
+    }
+
+    @Benchmark
+    public NotificationEvent deserializeInApp() {
+        return deserializer.deserialize(TOPIC, inAppPayload);
+    }
+
+    @Benchmark
+    public NotificationEvent deserializeEmail() {
+        return deserializer.deserialize(TOPIC, emailPayload);
+    }
+
+    @Benchmark
+    public byte[] serializeInAppAvro() {
+        return NotificationEventAvroCodec.encode(inAppEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeEmailAvro() {
+        return NotificationEventAvroCodec.encode(emailEvent);
+    }
+
+    @Benchmark
+    public NotificationEvent deserializeEmailMigrating() {
+        return migratingDeserializer.deserialize(TOPIC, emailPayload);
+    }
+
+    @Benchmark
+    public NotificationEvent deserializeInAppAvro() {
+        return migratingDeserializer.deserialize(TOPIC, inAppAvroPayload);
+    }
+
+    @Benchmark
+    public NotificationEvent deserializeEmailAvro() {
+        return migratingDeserializer.deserialize(TOPIC, emailAvroPayload);
+    }
+}
@@ -0,0 +1,153 @@
+package com.maintenance_match.benchmarks.notification;
+
+import com.maintenance_match.common.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.StringReader;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Notification inserts into a table that already holds {@code rows} notifications, with
+ * random (v4) and time-ordered (v7) keys for both {@code id} and {@code event_id}.
+ * <p>
+ * One operation is a consumed batch of {@value #BATCH} in-app notifications, inserted as one
+ * JDBC batch into a single unpartitioned table, so the score is rows per second. Size and
+ * leaf density of both indexes are printed when each trial ends; random keys leave pages
+ * half full after splits, time-ordered keys fill them. Requires Docker.
+ * Seeding 10M rows takes several minutes with v4 keys; pass {@code -p rows=1000000} for a
+ * quicker run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final int BATCH = 500;
+    private static final int SEED_CHUNK = 100_000;
+    private static final int RECIPIENTS = 100_000;
+
+    // The unpartitioned notifications schema (migration V1), so only the key type varies
+    private static final String CREATE_TABLE = """
+            CREATE TABLE notifications (
+                id uuid PRIMARY KEY,
+                event_id uuid NOT NULL UNIQUE,
+                recipient_id uuid NOT NULL,
+                message varchar(1024) NOT NULL,
+                is_read boolean NOT NULL,
+                created_at timestamp(6) NOT NULL
+            )""";
+
+    private static final String INSERT_SQL = "INSERT INTO notifications (id, event_id, recipient_id, message, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (event_id) DO NOTHING";
+
+    @Param({"v4", "v7"})
+    private String keys;
+
+    @Param({"10000000"})
+    private int rows;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> generator;
+    private UUID[] recipients;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        generator = "v7".equals(keys) ? UuidV7::generate : UUID::randomUUID;
+        recipients = new UUID[RECIPIENTS];
+        for (int i = 0; i < RECIPIENTS; i++) {
+            recipients[i] = UUID.randomUUID();
+        }
+
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            statement.execute("CREATE EXTENSION pgstattuple");
+        }
+        seed();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE notifications");
+        }
+        insert = connection.prepareStatement(INSERT_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            printIndexStats("notifications_pkey");
+            printIndexStats("notifications_event_id_key");
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insertBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, generator.get());
+            insert.setObject(2, generator.get());
+            insert.setObject(3, recipients[random.nextInt(RECIPIENTS)]);
+            insert.setString(4, "New job: Leaking kitchen sink");
+            insert.setBoolean(5, false);
+            insert.setTimestamp(6, now);
+            insert.addBatch();
+        }
+        return insert.executeBatch();
+    }
+
+    /**
+     * COPYs the existing rows in chunks with keys from the same generator, so the indexes
+     * carry the page layout that inserts of that key type produce.
+     */
+    private void seed() throws Exception {
+        CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String createdAt = LocalDateTime.now().toString();
+        for (int done = 0; done < rows; done += SEED_CHUNK) {
+            int chunk = Math.min(SEED_CHUNK, rows - done);
+            StringBuilder csv = new StringBuilder(chunk * 160);
+            for (int i = 0; i < chunk; i++) {
+                csv.append(generator.get()).append(',')
+                        .append(generator.get()).append(',')
+                        .append(recipients[random.nextInt(RECIPIENTS)]).append(',')
+                        .append("New job: Leaking kitchen sink,false,")
+                        .append(createdAt).append('\n');
+            }
+            copy.copyIn("COPY notifications (id, event_id, recipient_id, message, is_read, created_at) FROM STDIN (FORMAT csv)",
+                    new StringReader(csv.toString()));
+        }
+    }
+
+    private void printIndexStats(String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_size_pretty(pg_relation_size(?::regclass)), avg_leaf_density FROM pgstatindex(?)")) {
+            statement.setString(1, index);
+            statement.setString(2, index);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                System.out.printf("%n%s %s: size=%s, avg_leaf_density=%.1f%%%n",
+                        keys, index, rs.getString(1), rs.getDouble(2));
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.maintenance_match.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes every Hikari pool from app.datasource.pool.size. In auto mode the pool gets
+ * (database cores x 2) + 1 connections, the usual sweet spot for Postgres, capped by the
+ * number of requests expected to hit the database at once; more connections than that only
+ * queue inside Postgres instead of in the pool.
+ */
+@Slf4j
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public HikariPoolSizer(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            dataSource.setMaximumPoolSize(poolSize(environment));
+            log.info("Database pool {} sized to {} connections", beanName, dataSource.getMaximumPoolSize());
+        }
+        return bean;
+    }
+
+    static int poolSize(Environment environment) {
+        String size = environment.getRequiredProperty("app.datasource.pool.size").trim();
+        if (!"auto".equalsIgnoreCase(size)) {
+            return Math.max(1, Integer.parseInt(size));
+        }
+        // 0 when the database's cores are unknown: assume it matches this instance
+        int databaseCores = environment.getProperty("app.datasource.pool.database-cores", Integer.class, 0);
+        if (databaseCores <= 0) {
+            databaseCores = Runtime.getRuntime().availableProcessors();
+        }
+        int expectedConcurrency = environment.getProperty("app.datasource.pool.expected-concurrency", Integer.class, 50);
+        return Math.max(2, Math.min(databaseCores * 2 + 1, expectedConcurrency));
+    }
+}
@@ -1,6 +1,7 @@
-package com.maintenance_match.auth.dto;
+package com.maintenance_match.common.dto;
 
 public enum NotificationChannel {
     EMAIL,
     IN_APP
 }
+
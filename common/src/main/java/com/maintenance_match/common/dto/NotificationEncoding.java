@@ -0,0 +1,10 @@
+package com.maintenance_match.common.dto;
+
+/**
+ * Wire format for notification events, selected with {@code app.kafka.notification-encoding}.
+ * The notification service reads both, so producers can switch once it is deployed.
+ */
+public enum NotificationEncoding {
+    JSON,
+    AVRO
+}
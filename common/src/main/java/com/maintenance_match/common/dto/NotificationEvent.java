@@ -1,4 +1,4 @@
-package com.maintenance_match.notification.dto;
+package com.maintenance_match.common.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +8,10 @@ import lombok.NoArgsConstructor;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * A request to notify one user over one channel, published to notification.send by auth and
+ * matching and consumed by notification, either as JSON or as framed Avro.
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,29 @@
+package com.maintenance_match.common.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Kafka record waiting to be published, as read from the {@code outbox_events} table. The
+ * identity column gives the relay a strict insertion order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    private Long id;
+
+    private String topic;
+
+    // Kafka record key; records sharing a key are delivered in insertion order.
+    private String messageKey;
+
+    // The event already serialized in its wire format, sent to Kafka unchanged.
+    private byte[] payload;
+
+    private int attempts;
+}
@@ -0,0 +1,45 @@
+package com.maintenance_match.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maintenance_match.common.dto.NotificationEncoding;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.util.NotificationEventAvroCodec;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues Kafka events in the outbox table instead of sending them directly. The record
+ * commits or rolls back together with the caller's transaction; {@link OutboxRelay}
+ * publishes it afterwards.
+ */
+public class OutboxPublisher {
+
+    private final OutboxStore outboxStore;
+    private final ObjectMapper objectMapper;
+    private final NotificationEncoding notificationEncoding;
+
+    public OutboxPublisher(OutboxStore outboxStore,
+                           ObjectMapper objectMapper,
+                           NotificationEncoding notificationEncoding) {
+        this.outboxStore = outboxStore;
+        this.objectMapper = objectMapper;
+        this.notificationEncoding = notificationEncoding;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, Object event) {
+        outboxStore.insert(topic, key, serialize(topic, event));
+    }
+
+    private byte[] serialize(String topic, Object event) {
+        if (event instanceof NotificationEvent notificationEvent && notificationEncoding == NotificationEncoding.AVRO) {
+            return NotificationEventAvroCodec.encode(notificationEvent);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event for topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.maintenance_match.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox table to Kafka in batches.
+ * <p>
+ * A run claims a batch in one short transaction, sends it with no transaction or connection
+ * held, and settles it in a second short transaction. Only one batch is in flight across all
+ * instances: a claim is refused while another instance's lease is still live, and an expired
+ * lease (a relay that died mid-send) makes its rows claimable again.
+ * <p>
+ * A batch is sent in insertion order and the relay then waits for the broker acks. Only the
+ * acknowledged prefix of each key is deleted; a failed record and everything after it with
+ * the same key stay in the table and are sent again on the next run. Delivery is therefore
+ * at-least-once, and the last record delivered for a key is always the newest one.
+ * <p>
+ * Each producing service declares one relay over its own outbox table and Kafka template.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    // Advisory lock key shared by every instance of a service ("outbox" in ASCII)
+    private static final long RELAY_LOCK_ID = 0x6F7574626F78L;
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final OutboxStore outboxStore;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long claimLeaseMs;
+
+    public OutboxRelay(OutboxStore outboxStore,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       int batchSize,
+                       long sendTimeoutMs,
+                       long claimLeaseMs) {
+        if (claimLeaseMs <= sendTimeoutMs) {
+            throw new IllegalArgumentException("app.outbox.claim-lease-ms must be longer than app.outbox.send-timeout-ms");
+        }
+        this.outboxStore = outboxStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.claimLeaseMs = claimLeaseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:250}")
+    public void relay() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        // 1. Hand the whole batch to the producer so records share network round-trips
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            futures.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+        }
+
+        // 2. Wait for the acks, all within one send timeout so the lease cannot run out
+        // underneath us; once a key fails, its later records are kept for the retry
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        Map<Long, String> failures = new LinkedHashMap<>();
+        Set<String> failedKeys = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            String orderingKey = event.getTopic() + '/' + event.getMessageKey();
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!failedKeys.contains(orderingKey)) {
+                    sentIds.add(event.getId());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                failedKeys.add(orderingKey);
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                failures.put(event.getId(), failureMessage(event, cause));
+            }
+        }
+
+        // 3. Remove what was delivered and release the rest of the claim for the next run
+        Set<Long> sent = new HashSet<>(sentIds);
+        List<Long> unsentIds = batch.stream().map(OutboxEvent::getId).filter(id -> !sent.contains(id)).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxStore.deleteAllById(sentIds);
+            }
+            failures.forEach(outboxStore::recordFailure);
+            if (!unsentIds.isEmpty()) {
+                outboxStore.releaseClaim(unsentIds);
+            }
+        });
+        if (!failedKeys.isEmpty()) {
+            log.warn("Outbox relay sent {} of {} events; {} keys will be retried", sentIds.size(), batch.size(), failedKeys.size());
+        } else {
+            log.debug("Outbox relay sent {} events", sentIds.size());
+        }
+    }
+
+    /**
+     * Claims the oldest pending records, unless another relay still has a live claim. The
+     * advisory lock only serializes the check-and-claim and is released when this short
+     * transaction commits.
+     */
+    private List<OutboxEvent> claimBatch() {
+        if (!outboxStore.tryAcquireRelayLock(RELAY_LOCK_ID)) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxStore.existsClaimedUntilAfter(now)) {
+            return List.of();
+        }
+        List<OutboxEvent> batch = outboxStore.findOldest(batchSize);
+        if (!batch.isEmpty()) {
+            outboxStore.claim(batch.stream().map(OutboxEvent::getId).toList(),
+                    now.plus(claimLeaseMs, ChronoUnit.MILLIS));
+        }
+        return batch;
+    }
+
+    private static String failureMessage(OutboxEvent event, Throwable cause) {
+        String message = String.valueOf(cause.getMessage());
+        log.error("Failed to publish outbox event {} to {} (attempt {}): {}",
+                event.getId(), event.getTopic(), event.getAttempts() + 1, message);
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
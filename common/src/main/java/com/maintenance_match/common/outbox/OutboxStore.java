@@ -0,0 +1,101 @@
+package com.maintenance_match.common.outbox;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the {@code outbox_events} table every producing service keeps in its own
+ * database. All statements run in the caller's transaction.
+ */
+public class OutboxStore {
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+            .id(rs.getLong("id"))
+            .topic(rs.getString("topic"))
+            .messageKey(rs.getString("message_key"))
+            .payload(rs.getBytes("payload"))
+            .attempts(rs.getInt("attempts"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(String topic, String messageKey, byte[] payload) {
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (topic, message_key, payload, attempts, created_at)
+                VALUES (:topic, :messageKey, :payload, 0, :createdAt)
+                """, new MapSqlParameterSource()
+                .addValue("topic", topic)
+                .addValue("messageKey", messageKey)
+                .addValue("payload", payload)
+                .addValue("createdAt", LocalDateTime.now()));
+    }
+
+    /**
+     * Returns the oldest pending records first.
+     * @param limit How many records are returned at most.
+     * @return Pending records in insertion order.
+     */
+    public List<OutboxEvent> findOldest(int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, topic, message_key, payload, attempts
+                FROM outbox_events
+                ORDER BY id
+                LIMIT :limit
+                """, Map.of("limit", limit), EVENT_MAPPER);
+    }
+
+    /**
+     * Takes a transaction-scoped Postgres advisory lock without waiting, so only one relay
+     * across all instances checks for and takes a claim at a time.
+     * @param lockId The advisory lock key.
+     * @return true if this transaction now holds the lock.
+     */
+    public boolean tryAcquireRelayLock(long lockId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(:lockId)",
+                Map.of("lockId", lockId), Boolean.class));
+    }
+
+    /**
+     * @return true if a relay holds a claim that has not expired yet.
+     */
+    public boolean existsClaimedUntilAfter(LocalDateTime now) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM outbox_events WHERE claimed_until > :now)",
+                Map.of("now", now), Boolean.class));
+    }
+
+    /**
+     * Marks records as being sent by this relay until the lease runs out.
+     */
+    public int claim(List<Long> ids, LocalDateTime until) {
+        return jdbcTemplate.update("UPDATE outbox_events SET claimed_until = :until WHERE id IN (:ids)",
+                Map.of("ids", ids, "until", until));
+    }
+
+    /**
+     * Makes records that were claimed but not delivered available to the next run.
+     */
+    public int releaseClaim(List<Long> ids) {
+        return jdbcTemplate.update("UPDATE outbox_events SET claimed_until = NULL WHERE id IN (:ids)",
+                Map.of("ids", ids));
+    }
+
+    public int recordFailure(Long id, String error) {
+        return jdbcTemplate.update(
+                "UPDATE outbox_events SET attempts = attempts + 1, last_error = :error WHERE id = :id",
+                Map.of("id", id, "error", error));
+    }
+
+    public int deleteAllById(List<Long> ids) {
+        return jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+}
@@ -0,0 +1,172 @@
+package com.maintenance_match.common.util;
+
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary Avro encoding of {@link NotificationEvent}s.
+ * <p>
+ * Each payload starts with a zero magic byte and a 4-byte schema id, the same framing a
+ * Confluent schema registry uses. The registry here is embedded: ids map to schema files
+ * on the classpath, so a reader can always resolve the writer's schema against its own.
+ * A JSON payload starts with '{', which lets consumers tell the two encodings apart.
+ */
+public final class NotificationEventAvroCodec {
+
+    public static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_LENGTH = 5;
+    private static final int CURRENT_SCHEMA_ID = 1;
+
+    private static final Map<Integer, Schema> SCHEMAS = Map.of(
+            1, loadSchema("avro/notification-event-v1.avsc"));
+    private static final Schema SCHEMA = SCHEMAS.get(CURRENT_SCHEMA_ID);
+    private static final Schema UUID_SCHEMA = SCHEMA.getField("eventId").schema();
+    private static final Schema CHANNEL_SCHEMA = SCHEMA.getField("channel").schema();
+    private static final GenericDatumWriter<GenericRecord> WRITER = new GenericDatumWriter<>(SCHEMA);
+    // One reader per known writer schema, each resolving into the current schema
+    private static final Map<Integer, GenericDatumReader<GenericRecord>> READERS = new HashMap<>();
+
+    static {
+        SCHEMAS.forEach((id, writerSchema) -> READERS.put(id, new GenericDatumReader<>(writerSchema, SCHEMA)));
+    }
+
+    private NotificationEventAvroCodec() {
+    }
+
+    public static boolean isAvro(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MAGIC_BYTE;
+    }
+
+    public static byte[] encode(NotificationEvent event) {
+        GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("eventId", new GenericData.Fixed(UUID_SCHEMA, toBytes(event.getEventId())));
+        record.put("recipientId", event.getRecipientId());
+        record.put("channel", new GenericData.EnumSymbol(CHANNEL_SCHEMA, event.getChannel().name()));
+        record.put("message", event.getMessage());
+        record.put("subject", event.getSubject());
+        record.put("template", event.getTemplate());
+        record.put("variables", toAvroMap(event.getVariables()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write(MAGIC_BYTE);
+        out.writeBytes(ByteBuffer.allocate(4).putInt(CURRENT_SCHEMA_ID).array());
+        try {
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            WRITER.write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not framed Avro or uses an unknown schema id.
+     */
+    public static NotificationEvent decode(byte[] data) {
+        if (!isAvro(data)) {
+            throw new IllegalArgumentException("Payload is not an Avro-encoded notification event");
+        }
+        int schemaId = ByteBuffer.wrap(data, 1, 4).getInt();
+        GenericDatumReader<GenericRecord> reader = READERS.get(schemaId);
+        if (reader == null) {
+            throw new IllegalArgumentException("Unknown notification event schema id " + schemaId);
+        }
+
+        GenericRecord record;
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH, null);
+            record = reader.read(null, decoder);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed notification event payload", e);
+        }
+
+        return NotificationEvent.builder()
+                .eventId(toUuid(((GenericData.Fixed) record.get("eventId")).bytes()))
+                .recipientId(asString(record.get("recipientId")))
+                .channel(NotificationChannel.valueOf(record.get("channel").toString()))
+                .message(asString(record.get("message")))
+                .subject(asString(record.get("subject")))
+                .template(asString(record.get("template")))
+                .variables(fromAvroMap(record.get("variables")))
+                .build();
+    }
+
+    // Template variables are free-form; anything that is not a number or boolean travels as text
+    private static Map<String, Object> toAvroMap(Map<String, Object> variables) {
+        if (variables == null) {
+            return null;
+        }
+        Map<String, Object> avroMap = new HashMap<>(variables.size() * 2);
+        variables.forEach((key, value) -> {
+            Object avroValue;
+            if (value == null || value instanceof String || value instanceof Boolean
+                    || value instanceof Long || value instanceof Double) {
+                avroValue = value;
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                avroValue = ((Number) value).longValue();
+            } else if (value instanceof Float) {
+                avroValue = ((Float) value).doubleValue();
+            } else {
+                avroValue = value.toString();
+            }
+            avroMap.put(key, avroValue);
+        });
+        return avroMap;
+    }
+
+    private static Map<String, Object> fromAvroMap(Object avroMap) {
+        if (avroMap == null) {
+            return null;
+        }
+        Map<?, ?> source = (Map<?, ?>) avroMap;
+        Map<String, Object> variables = new HashMap<>(source.size() * 2);
+        source.forEach((key, value) -> variables.put(key.toString(), value instanceof CharSequence ? value.toString() : value));
+        return variables;
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static Schema loadSchema(String path) {
+        try (InputStream in = NotificationEventAvroCodec.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Schema not found on classpath: " + path);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.maintenance_match.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariPoolSizerTest {
+
+    @Test
+    void poolSize_shouldUseTwiceTheDatabaseCoresPlusOne() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool.size", "auto")
+                .withProperty("app.datasource.pool.database-cores", "4")
+                .withProperty("app.datasource.pool.expected-concurrency", "50");
+
+        // When / Then
+        assertThat(HikariPoolSizer.poolSize(environment)).isEqualTo(9);
+    }
+
+    @Test
+    void poolSize_shouldBeCappedByExpectedConcurrency() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool.size", "auto")
+                .withProperty("app.datasource.pool.database-cores", "16")
+                .withProperty("app.datasource.pool.expected-concurrency", "12");
+
+        // When / Then
+        assertThat(HikariPoolSizer.poolSize(environment)).isEqualTo(12);
+    }
+
+    @Test
+    void poolSize_shouldHonourAFixedSize() {
+        // Given: DB_POOL_SIZE=25
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool.size", "25");
+
+        // When / Then
+        assertThat(HikariPoolSizer.poolSize(environment)).isEqualTo(25);
+    }
+
+    @Test
+    void postProcessAfterInitialization_shouldOnlyResizeHikariPools() {
+        // Given
+        HikariPoolSizer sizer = new HikariPoolSizer(new MockEnvironment()
+                .withProperty("app.datasource.pool.size", "7"));
+        HikariDataSource dataSource = new HikariDataSource();
+
+        // When
+        Object other = sizer.postProcessAfterInitialization("not a pool", "other");
+        sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(other).isEqualTo("not a pool");
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(7);
+    }
+}
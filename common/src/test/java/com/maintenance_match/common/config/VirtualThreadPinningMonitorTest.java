@@ -0,0 +1,79 @@
+package com.maintenance_match.common.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void lifecycle_shouldRegisterTheTimerAndStartAndStopTheStream() {
+        // When
+        monitor.start();
+
+        // Then
+        assertThat(monitor.isRunning()).isTrue();
+        assertThat(meterRegistry.find("jvm.threads.virtual.pinned").timer()).isNotNull();
+
+        // When
+        monitor.stop();
+
+        // Then
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void onPinned_shouldRecordAVirtualThreadBlockingInsideAMonitor() throws Exception {
+        // Given
+        monitor.start();
+        Object lock = new Object();
+        Runnable pinning = () -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        // When: the code is compiled for Java 17, so the virtual thread is started reflectively
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Thread thread = (Thread) Class.forName("java.lang.Thread$Builder").getMethod("start", Runnable.class)
+                .invoke(builder, pinning);
+        thread.join();
+
+        // Then: JFR streams events in roughly one-second chunks
+        Timer pinned = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pinned.count() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(pinned.count()).isGreaterThanOrEqualTo(1);
+        assertThat(pinned.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40.0);
+    }
+}
@@ -0,0 +1,108 @@
+package com.maintenance_match.common.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String TOPIC = "notification.send";
+
+    @Mock
+    private OutboxStore outboxStore;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxStore, kafkaTemplate, new TransactionTemplate(transactionManager),
+                200, 1000, 5000);
+    }
+
+    @Test
+    void relay_shouldDeleteSentEventsAndKeepFailedKeyForRetry() {
+        // Given: the second event for key "a" fails, the third succeeds out of order
+        OutboxEvent a1 = event(1L, "a");
+        OutboxEvent a2 = event(2L, "a");
+        OutboxEvent a3 = event(3L, "a");
+        OutboxEvent b1 = event(4L, "b");
+        when(outboxStore.tryAcquireRelayLock(anyLong())).thenReturn(true);
+        when(outboxStore.findOldest(anyInt())).thenReturn(List.of(a1, a2, a3, b1));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any(byte[].class))).thenAnswer(invocation -> {
+            byte[] payload = invocation.getArgument(2);
+            return new String(payload, StandardCharsets.UTF_8).equals("payload-2")
+                    ? CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))
+                    : CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+
+        // When
+        outboxRelay.relay();
+
+        // Then: only the acknowledged prefix of "a" and all of "b" are removed; the rest of "a"
+        // is released for the next run and only the failed record counts an attempt
+        verify(outboxStore).claim(eq(List.of(1L, 2L, 3L, 4L)), any());
+        verify(outboxStore).deleteAllById(List.of(1L, 4L));
+        verify(outboxStore).recordFailure(2L, "broker unavailable");
+        verify(outboxStore, never()).recordFailure(eq(3L), any());
+        verify(outboxStore).releaseClaim(List.of(2L, 3L));
+        // Claim and settlement each ran in their own transaction
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void relay_shouldSkipWhileAnotherRelayHoldsALiveClaim() {
+        // Given
+        when(outboxStore.tryAcquireRelayLock(anyLong())).thenReturn(true);
+        when(outboxStore.existsClaimedUntilAfter(any())).thenReturn(true);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxStore, never()).findOldest(anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void relay_shouldSkipWhenAnotherInstanceHoldsTheLock() {
+        // Given
+        when(outboxStore.tryAcquireRelayLock(anyLong())).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxStore, never()).findOldest(anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static OutboxEvent event(long id, String key) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic(TOPIC)
+                .messageKey(key)
+                .payload(("payload-" + id).getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
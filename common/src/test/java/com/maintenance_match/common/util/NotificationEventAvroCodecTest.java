@@ -0,0 +1,82 @@
+package com.maintenance_match.common.util;
+
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationEventAvroCodecTest {
+
+    private final NotificationEvent inAppEvent = NotificationEvent.builder()
+            .eventId(UUID.randomUUID())
+            .recipientId(UUID.randomUUID().toString())
+            .channel(NotificationChannel.IN_APP)
+            .message("You have been matched with Abebe Kebede for: Leaking kitchen sink")
+            .build();
+
+    @Test
+    void encode_shouldFramePayloadWithMagicByteAndSchemaId() {
+        // When
+        byte[] payload = NotificationEventAvroCodec.encode(inAppEvent);
+
+        // Then
+        assertThat(payload[0]).isEqualTo(NotificationEventAvroCodec.MAGIC_BYTE);
+        assertThat(payload[4]).isEqualTo((byte) 1);
+        assertThat(NotificationEventAvroCodec.isAvro(payload)).isTrue();
+    }
+
+    @Test
+    void decode_shouldRoundTripInAppEvent() {
+        // When
+        NotificationEvent decoded = NotificationEventAvroCodec.decode(NotificationEventAvroCodec.encode(inAppEvent));
+
+        // Then
+        assertThat(decoded).isEqualTo(inAppEvent);
+    }
+
+    @Test
+    void decode_shouldWidenAndStringifyTemplateVariables() {
+        // Given
+        NotificationEvent emailEvent = NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(UUID.randomUUID().toString())
+                .channel(NotificationChannel.EMAIL)
+                .subject("Job Completed")
+                .template("job-completed")
+                .variables(Map.of("rating", 5, "score", 4.5f, "paid", true, "jobId", UUID.fromString("00000000-0000-0000-0000-000000000001")))
+                .build();
+
+        // When
+        NotificationEvent decoded = NotificationEventAvroCodec.decode(NotificationEventAvroCodec.encode(emailEvent));
+
+        // Then
+        assertThat(decoded.getVariables())
+                .containsEntry("rating", 5L)
+                .containsEntry("score", 4.5d)
+                .containsEntry("paid", true)
+                .containsEntry("jobId", "00000000-0000-0000-0000-000000000001");
+    }
+
+    @Test
+    void isAvro_shouldRejectJsonPayload() {
+        assertThat(NotificationEventAvroCodec.isAvro("{\"eventId\":null}".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    void decode_shouldRejectUnknownSchemaId() {
+        // Given
+        byte[] payload = NotificationEventAvroCodec.encode(inAppEvent);
+        payload[4] = 99;
+
+        // When / Then
+        assertThatThrownBy(() -> NotificationEventAvroCodec.decode(payload))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("99");
+    }
+}
@@ -0,0 +1,49 @@
+package com.maintenance_match.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void generate_shouldProduceVersion7WithTheCurrentTime() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.generate();
+
+        // Then (the timestamp may run a few ms ahead after a burst from another test)
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, System.currentTimeMillis() + 100);
+    }
+
+    @Test
+    void generate_shouldBeStrictlyIncreasingInTextAndNumericOrder() {
+        // Given: far more IDs than the 4096 that fit in one millisecond
+        List<UUID> uuids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            uuids.add(UuidV7.generate());
+        }
+
+        // Then: Postgres compares uuid values bytewise, which matches the string order
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(uuids.get(i).toString()).isGreaterThan(uuids.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    void timestampMillis_shouldRejectRandomUuids() {
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,12 +2,16 @@ package com.maintenance_match.matching;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableCaching
 @EnableFeignClients
 @EnableKafka
+@EnableScheduling
 public class MatchingApplication {
 
 	public static void main(String[] args) {
@@ -4,7 +4,11 @@ import com.maintenance_match.matching.dto.UserDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "auth-client", url = "${app.clients.auth-url}")
@@ -12,4 +16,7 @@ public interface AuthClient {
 
     @GetMapping("/api/internal/users/{userId}")
     UserDto getUserById(@PathVariable("userId") UUID userId);
+
+    @PostMapping("/api/internal/users/batch")
+    List<UserDto> getUsersByIds(@RequestBody Collection<UUID> userIds);
 }
@@ -1,6 +1,10 @@
 package com.maintenance_match.matching.config;
 
 import com.maintenance_match.matching.dto.MaintainerProfileEvent;
+import com.maintenance_match.matching.dto.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,21 +13,34 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
+@Slf4j
 public class KafkaConsumerConfig {
 
+    private final KafkaAdmin kafkaAdmin;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${app.kafka.topics.user-changed}")
+    private String userChangedTopic;
+
+    // Assumed when the topic cannot be described at startup (the broker's default partition count)
+    @Value("${app.kafka.user-changed-partitions:1}")
+    private int userChangedPartitions;
+
     @Bean
     public ConsumerFactory<String, MaintainerProfileEvent> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -45,4 +62,56 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
+
+    @Bean
+    public ConsumerFactory<String, UserChangedEvent> userChangedConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // The broadcast listener has no group and therefore no committed offsets: it only needs
+        // changes made while the instance is running. Grouped listeners override this.
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        return new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(),
+                new JsonDeserializer<>(UserChangedEvent.class, false));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> userChangedListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userChangedConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * Container factory for listeners every instance runs over all partitions without a
+     * consumer group, so restarts leave no orphaned groups on the broker. Offsets are never
+     * committed: listeners do not acknowledge and the consumer has no group to commit to.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> userChangedBroadcastContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userChangedConsumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * Partitions of the user-changed topic for manual assignment. Partitions added later
+     * are picked up on the next restart.
+     */
+    public String[] userChangedPartitions() {
+        int partitions = userChangedPartitions;
+        try {
+            TopicDescription description = kafkaAdmin.describeTopics(userChangedTopic).get(userChangedTopic);
+            partitions = description.partitions().size();
+        } catch (Exception e) {
+            log.warn("Could not describe topic {}, assuming {} partitions: {}", userChangedTopic, partitions, e.getMessage());
+        }
+        return IntStream.range(0, partitions).mapToObj(String::valueOf).toArray(String[]::new);
+    }
 }
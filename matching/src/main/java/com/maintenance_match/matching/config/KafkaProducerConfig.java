@@ -1,15 +1,18 @@
 package com.maintenance_match.matching.config;
 
-import com.maintenance_match.matching.dto.NotificationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,18 +20,52 @@ import java.util.Map;
 @Configuration
 public class KafkaProducerConfig {
 
+    /**
+     * Producer used by the outbox relay. Payloads are stored already serialized (JSON, or
+     * Avro for notification events), so they go on the wire as raw bytes.
+     * <p>
+     * The Kafka client metrics of every producer are bound to Micrometer, which publishes the
+     * per-topic record send rate alongside batch size and request latency under
+     * {@code kafka.producer.*} on the actuator metrics endpoint.
+     */
     @Bean
-    public ProducerFactory<String, NotificationEvent> notificationProducerFactory(KafkaProperties kafkaProperties) {
+    public ProducerFactory<String, byte[]> outboxProducerFactory(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.kafka.producer.profile:default}") KafkaProducerProfile profile,
+            @Value("${app.kafka.producer.compression-type:lz4}") String compressionType,
+            @Value("${app.kafka.producer.linger-ms:20}") int lingerMs,
+            @Value("${app.kafka.producer.batch-size:65536}") int batchSize) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties(null));
-        props.putIfAbsent(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.putIfAbsent(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        props.putIfAbsent(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-        return new DefaultKafkaProducerFactory<>(props);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        applyProfile(props, profile, compressionType, lingerMs, batchSize);
+
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(props);
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerProducerListener<>(registry)));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, NotificationEvent> notificationKafkaTemplate(
-            ProducerFactory<String, NotificationEvent> notificationProducerFactory) {
-        return new KafkaTemplate<>(notificationProducerFactory);
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate(
+            ProducerFactory<String, byte[]> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
+    }
+
+    /**
+     * Applies the producer settings of a profile on top of the configured properties.
+     * Idempotence is set explicitly because it is what keeps retried batches in key order.
+     */
+    public static void applyProfile(Map<String, Object> props, KafkaProducerProfile profile,
+                                    String compressionType, int lingerMs, int batchSize) {
+        if (profile != KafkaProducerProfile.THROUGHPUT) {
+            return;
+        }
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.maintenance_match.matching.config;
+
+/**
+ * Producer tuning selected with {@code app.kafka.producer.profile}.
+ */
+public enum KafkaProducerProfile {
+    /** Kafka client defaults: no compression, records sent as soon as possible. */
+    DEFAULT,
+    /** Compressed batches filled for up to {@code linger-ms}, with idempotent, ordered retries. */
+    THROUGHPUT
+}
@@ -0,0 +1,33 @@
+package com.maintenance_match.matching.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Read-your-writes escape hatch: a request sent with {@code X-Read-Consistency: primary} does
+ * all of its reads on the primary, e.g. a client reloading a job it has just created.
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Consistency";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!"primary".equalsIgnoreCase(request.getHeader(HEADER))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReplicaRoutingDataSource.forcePrimary(true);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.forcePrimary(false);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.maintenance_match.matching.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the replica connection pools and measures each replica's replay lag.
+ * <p>
+ * A replica only receives reads while its last measured lag is within the limit; one that is
+ * behind, unreachable or not streaming from the primary is skipped until a later check finds
+ * it caught up. Until the first
+ * check completes every read goes to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements DisposableBean {
+
+    // NULL when no WAL receiver is streaming: a disconnected replica has replayed everything it
+    // received and would otherwise read as caught up. Otherwise zero when it has replayed
+    // everything it received, so an idle primary does not look like lag. Without
+    // pg_read_all_stats the receiver's status reads as NULL; its row alone then counts.
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver
+                                        WHERE COALESCE(status, 'streaming') = 'streaming') THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final double maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(Map<String, HikariDataSource> replicas, MeterRegistry meterRegistry, Duration maxLag) {
+        this.replicas = Collections.unmodifiableMap(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        for (String replica : replicas.keySet()) {
+            Gauge.builder("matching.db.replica.lag", lagSeconds, lags -> lags.getOrDefault(replica, Double.NaN))
+                    .description("Seconds the replica's replay is behind the primary; NaN when unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", replica)
+                    .register(meterRegistry);
+        }
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return true if the replica answered the last lag check within the limit.
+     */
+    public boolean isUsable(String replica) {
+        Double lag = lagSeconds.get(replica);
+        return lag != null && lag <= maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        replicas.forEach((name, dataSource) -> {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                double lag = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    if (lagSeconds.remove(name) != null) {
+                        log.warn("Replica {} is not streaming from the primary; sending its reads to the primary", name);
+                    }
+                    return;
+                }
+                Double previous = lagSeconds.put(name, lag);
+                if (lag > maxLagSeconds && (previous == null || previous <= maxLagSeconds)) {
+                    log.warn("Replica {} is {}s behind; sending its reads to the primary", name, lag);
+                }
+            } catch (Exception e) {
+                if (lagSeconds.remove(name) != null) {
+                    log.warn("Replica {} is unreachable; sending its reads to the primary: {}", name, e.toString());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,69 @@
+package com.maintenance_match.matching.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to a healthy replica, round-robin, and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only set
+ * after the transaction manager has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<String> replicaNames;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        this.replicaNames = List.copyOf(lagMonitor.getReplicas().keySet());
+    }
+
+    /**
+     * Runs the action with every read on this thread going to the primary, for callers that
+     * must see their own writes.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    static void forcePrimary(boolean force) {
+        if (force) {
+            FORCE_PRIMARY.set(Boolean.TRUE);
+        } else {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            return PRIMARY;
+        }
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String replica = replicaNames.get(Math.floorMod(next.getAndIncrement(), replicaNames.size()));
+            if (lagMonitor.isUsable(replica)) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+}
@@ -3,6 +3,8 @@ package com.maintenance_match.matching.controller;
 import com.maintenance_match.matching.dto.*;
 import com.maintenance_match.matching.exception.BadRequestException;
 import com.maintenance_match.matching.exception.CustomAccessDeniedException;
+import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.service.LocationUpdateBuffer;
 import com.maintenance_match.matching.service.MatchingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +16,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,18 +26,23 @@ import java.util.UUID;
 public class MatchingController {
 
     private final MatchingService matchingService;
+    private final LocationUpdateBuffer locationUpdateBuffer;
 
     @GetMapping("/maintainers/nearby")
-    @Operation(summary = "Find nearby available maintainers")
-    public ResponseEntity<List<MaintainerDto>> findNearbyMaintainers(
+    @Operation(summary = "Find nearby available maintainers", description = "Returns a page of available maintainers within the radius, nearest first, with their distance. Pass the returned nextCursor to fetch the following page.")
+    public ResponseEntity<CursorPage<MaintainerDto>> findNearbyMaintainers(
             @Parameter(description = "Latitude of the search center", required = true, example = "9.0325")
             @RequestParam double latitude,
             @Parameter(description = "Longitude of the search center", required = true, example = "38.7542")
             @RequestParam double longitude,
             @Parameter(description = "Search radius in meters", example = "5000")
-            @RequestParam(defaultValue = "5000") double radius) {
+            @RequestParam(defaultValue = "5000") double radius,
+            @Parameter(description = "The nextCursor value from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of maintainers to return (max 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
 
-        List<MaintainerDto> maintainers = matchingService.findNearbyMaintainers(latitude, longitude, radius);
+        CursorPage<MaintainerDto> maintainers = matchingService.findNearbyMaintainers(latitude, longitude, radius, cursor, limit);
         return ResponseEntity.ok(maintainers);
     }
 
@@ -53,13 +59,19 @@ public class MatchingController {
     }
 
     @GetMapping("/jobs/my-jobs")
-    @Operation(summary = "Get all jobs for the current user", description = "Returns a list of all active and past jobs for the authenticated user (works for both USERS and MAINTAINERS).")
-    public ResponseEntity<List<JobDto>> getMyJobs(
+    @Operation(summary = "Get jobs for the current user", description = "Returns a page of active and past jobs for the authenticated user, newest first (works for both USERS and MAINTAINERS). Pass the returned nextCursor to fetch the following page.")
+    public ResponseEntity<CursorPage<JobDto>> getMyJobs(
+            @Parameter(description = "Only return jobs in this status")
+            @RequestParam(required = false) JobStatus status,
+            @Parameter(description = "The nextCursor value from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of jobs to return (max 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
             @Parameter(hidden = true) @RequestHeader(value = "X-User-ID", required = false) String userIdHeader,
             @Parameter(hidden = true) @RequestHeader(value = "X-User-Role", required = false) String userRole
     ) {
         UUID userId = UUID.fromString(userIdHeader);
-        List<JobDto> jobs = matchingService.getMyJobs(userId, userRole);
+        CursorPage<JobDto> jobs = matchingService.getMyJobs(userId, userRole, status, cursor, size);
         return ResponseEntity.ok(jobs);
     }
 
@@ -87,6 +99,22 @@ public class MatchingController {
         return ResponseEntity.ok(updatedJob);
     }
 
+    @PutMapping("/maintainers/me/location")
+    @Operation(summary = "Report the maintainer's current location",
+            description = "High-frequency GPS updates. Pings are coalesced and written in batches, so the new position becomes searchable within about a second.")
+    public ResponseEntity<Void> updateLocation(
+            @Valid @RequestBody LocationUpdateRequest request,
+            @Parameter(hidden = true) @RequestHeader("X-User-ID") String userIdHeader,
+            @Parameter(hidden = true) @RequestHeader("X-User-Role") String userRole) {
+
+        if (!"MAINTAINER".equalsIgnoreCase(userRole)) {
+            throw new CustomAccessDeniedException("Only maintainers can report a location.");
+        }
+
+        locationUpdateBuffer.record(UUID.fromString(userIdHeader), request.getLatitude(), request.getLongitude());
+        return ResponseEntity.accepted().build();
+    }
+
     @PatchMapping("/maintainers/me")
     @Operation(summary = "Partially update maintainer profile",
             description = "Allows maintainers to update their name, availability, capacity, or location.")
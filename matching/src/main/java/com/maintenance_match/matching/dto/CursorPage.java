@@ -0,0 +1,18 @@
+package com.maintenance_match.matching.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    // Opaque token for the next page; null when there are no more results.
+    private String nextCursor;
+}
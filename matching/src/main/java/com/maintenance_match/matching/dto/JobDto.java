@@ -1,7 +1,8 @@
 package com.maintenance_match.matching.dto;
 
-import com.maintenance_match.matching.model.Job;
 import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.model.JobSummary;
+import com.maintenance_match.matching.model.Participant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,6 +25,18 @@ public class JobDto {
     private ParticipantDto user;
     private ParticipantDto maintainer;
 
+    public static JobDto from(JobSummary job, ParticipantDto user, ParticipantDto maintainer) {
+        return JobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .problemDescription(job.getProblemDescription())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .user(user)
+                .maintainer(maintainer)
+                .build();
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -32,5 +45,35 @@ public class JobDto {
         private UUID id;
         private String name;
         private String phoneNumber;
+
+        /**
+         * Builds a participant from the user's profile, or an ID-only participant
+         * when the profile could not be resolved.
+         */
+        public static ParticipantDto from(UUID userId, UserDto user) {
+            if (user == null) {
+                return ParticipantDto.builder().id(userId).build();
+            }
+            return ParticipantDto.builder()
+                    .id(user.getId())
+                    .name(user.getFirstName() + " " + user.getLastName())
+                    .phoneNumber(user.getPhoneNumber())
+                    .build();
+        }
+
+        /**
+         * Builds a participant from the local read model, or an ID-only participant
+         * when there is no row for the user yet.
+         */
+        public static ParticipantDto from(UUID userId, Participant participant) {
+            if (participant == null) {
+                return ParticipantDto.builder().id(userId).build();
+            }
+            return ParticipantDto.builder()
+                    .id(participant.getUserId())
+                    .name(participant.getFirstName() + " " + participant.getLastName())
+                    .phoneNumber(participant.getPhoneNumber())
+                    .build();
+        }
     }
 }
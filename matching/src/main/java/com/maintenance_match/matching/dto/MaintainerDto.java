@@ -1,6 +1,7 @@
 package com.maintenance_match.matching.dto;
 
 import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.model.NearbyMaintainer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +18,8 @@ public class MaintainerDto {
     private String name;
     private double latitude;
     private double longitude;
+    // Distance from the search center; only set on search results.
+    private Double distanceInMeters;
 
     public static MaintainerDto fromEntity(Maintainer maintainer) {
         return MaintainerDto.builder()
@@ -26,4 +29,14 @@ public class MaintainerDto {
                 .longitude(maintainer.getLocation().getX())
                 .build();
     }
+
+    public static MaintainerDto fromNearby(NearbyMaintainer maintainer) {
+        return MaintainerDto.builder()
+                .id(maintainer.getId())
+                .name(maintainer.getName())
+                .latitude(maintainer.getLatitude())
+                .longitude(maintainer.getLongitude())
+                .distanceInMeters(maintainer.getDistance())
+                .build();
+    }
 }
@@ -1,6 +0,0 @@
-package com.maintenance_match.matching.dto;
-
-public enum NotificationChannel {
-    EMAIL,
-    IN_APP
-}
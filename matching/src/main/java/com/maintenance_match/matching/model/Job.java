@@ -1,5 +1,6 @@
 package com.maintenance_match.matching.model;
 
+import com.maintenance_match.common.util.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     // The ID of the user who initiated the request.
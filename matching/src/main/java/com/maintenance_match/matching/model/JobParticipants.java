@@ -0,0 +1,15 @@
+package com.maintenance_match.matching.model;
+
+import java.util.UUID;
+
+/**
+ * Both participants of a job, resolved from the local {@link Participant} read model.
+ * A participant is null when its row has not been written yet.
+ */
+public interface JobParticipants {
+    UUID getJobId();
+    UUID getUserId();
+    UUID getMaintainerUserId();
+    Participant getUser();
+    Participant getMaintainer();
+}
@@ -0,0 +1,28 @@
+package com.maintenance_match.matching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of a {@link Job} without its geometry, used for listing jobs. The page queries
+ * build it with a JPQL constructor expression, so its constructor must match their select list.
+ */
+@Data
+@AllArgsConstructor
+public class JobSummary {
+    private UUID id;
+    private UUID userId;
+    private UUID maintainerId;
+    private JobStatus status;
+    private String problemDescription;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static JobSummary from(Job job) {
+        return new JobSummary(job.getId(), job.getUserId(), job.getMaintainerId(), job.getStatus(),
+                job.getProblemDescription(), job.getCreatedAt(), job.getCompletedAt());
+    }
+}
@@ -1,12 +1,15 @@
 package com.maintenance_match.matching.model;
 
+import com.maintenance_match.common.util.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.locationtech.jts.geom.Point;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
@@ -15,10 +18,12 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @Table(name = "maintainers")
+// Saves only write changed columns, so a profile edit cannot overwrite a streamed location
+@DynamicUpdate
 public class Maintainer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -32,11 +37,16 @@ public class Maintainer {
     @Column(columnDefinition = "geometry(Point,4326)")
     private Point location;
 
+    // When the location was last written; streamed updates never replace a newer one.
+    private LocalDateTime locationUpdatedAt;
+
     @Builder.Default // Default capacity to 1 unless specified otherwise
     @Column(nullable = false)
     private Integer capacity = 1;
 
+    // Only changed through MaintainerRepository's atomic reserve/release queries,
+    // never by a full-entity save that could overwrite a concurrent reservation.
     @Builder.Default // Default active jobs to 0
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer activeJobs = 0;
 }
@@ -0,0 +1,14 @@
+package com.maintenance_match.matching.model;
+
+import java.util.UUID;
+
+/**
+ * A maintainer returned by a ranked nearby search, with its distance from the search center.
+ */
+public interface NearbyMaintainer {
+    UUID getId();
+    String getName();
+    double getLatitude();
+    double getLongitude();
+    double getDistance();
+}
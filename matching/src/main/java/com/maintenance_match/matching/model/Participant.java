@@ -0,0 +1,36 @@
+package com.maintenance_match.matching.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Local read model of the display details auth owns for a user, kept current from the
+ * user-changed events so job responses never have to call auth.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "participants")
+public class Participant {
+
+    // The auth user ID; not generated here.
+    @Id
+    private UUID userId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String phoneNumber;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
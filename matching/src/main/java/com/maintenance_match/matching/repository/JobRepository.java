@@ -2,9 +2,16 @@ package com.maintenance_match.matching.repository;
 
 import com.maintenance_match.matching.model.Job;
 import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.model.JobSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,4 +32,59 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
 
     // Find all jobs for a maintainer with any of a list of statuses
     List<Job> findByMaintainerIdAndStatusIn(UUID maintainerId, List<JobStatus> statuses);
+
+    /**
+     * Keyset page of a user's jobs, newest first, without the job geometry.
+     * @param userId The customer's user ID.
+     * @param status Optional status filter; null returns every status.
+     * @param beforeCreatedAt Creation time of the last row of the previous page.
+     * @param beforeId ID of the last row of the previous page, breaking ties on createdAt.
+     * @param pageable Only the page size is used; always request page 0.
+     * @return Up to pageable.getPageSize() jobs strictly after the cursor.
+     */
+    @Query("SELECT new com.maintenance_match.matching.model.JobSummary(j.id, j.userId, j.maintainerId, j.status, " +
+            "j.problemDescription, j.createdAt, j.completedAt) " +
+            "FROM Job j " +
+            "WHERE j.userId = :userId " +
+            "AND (:status IS NULL OR j.status = :status) " +
+            "AND (j.createdAt < :beforeCreatedAt OR (j.createdAt = :beforeCreatedAt AND j.id < :beforeId)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findPageByUserId(@Param("userId") UUID userId,
+                                      @Param("status") JobStatus status,
+                                      @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                      @Param("beforeId") UUID beforeId,
+                                      Pageable pageable);
+
+    /**
+     * Keyset page of a maintainer's jobs, newest first, without the job geometry.
+     * @see #findPageByUserId
+     */
+    @Query("SELECT new com.maintenance_match.matching.model.JobSummary(j.id, j.userId, j.maintainerId, j.status, " +
+            "j.problemDescription, j.createdAt, j.completedAt) " +
+            "FROM Job j " +
+            "WHERE j.maintainerId = :maintainerId " +
+            "AND (:status IS NULL OR j.status = :status) " +
+            "AND (j.createdAt < :beforeCreatedAt OR (j.createdAt = :beforeCreatedAt AND j.id < :beforeId)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findPageByMaintainerId(@Param("maintainerId") UUID maintainerId,
+                                            @Param("status") JobStatus status,
+                                            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                            @Param("beforeId") UUID beforeId,
+                                            Pageable pageable);
+
+    /**
+     * Atomically moves an ACTIVE job to a terminal status, so a job can only be
+     * completed or cancelled once even under concurrent requests.
+     * @param id The job ID.
+     * @param status The terminal status to set.
+     * @param completedAt The termination timestamp.
+     * @return 1 if the job was terminated, 0 if it was not ACTIVE.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :status, j.completedAt = :completedAt " +
+            "WHERE j.id = :id AND j.status = com.maintenance_match.matching.model.JobStatus.ACTIVE")
+    int terminateIfActive(@Param("id") UUID id,
+                          @Param("status") JobStatus status,
+                          @Param("completedAt") LocalDateTime completedAt);
 }
@@ -0,0 +1,98 @@
+package com.maintenance_match.matching.repository;
+
+import com.maintenance_match.matching.model.Maintainer;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based location writes for the streaming ingestion path, which Spring Data's
+ * per-entity saves cannot express.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MaintainerLocationRepository {
+
+    // One statement for the whole batch: the arrays are unnested into rows and joined on user_id.
+    // The rows are locked in user_id order first, so two overlapping batches cannot each hold a
+    // row the other waits for; the join order of the update itself is up to the planner.
+    private static final String UPDATE_LOCATIONS = """
+            WITH v AS (
+                SELECT * FROM unnest(?::uuid[], ?::float8[], ?::float8[], ?::timestamp[]) AS v(user_id, lon, lat, updated_at)
+            ), locked AS MATERIALIZED (
+                SELECT m.id FROM maintainers m JOIN v ON v.user_id = m.user_id
+                ORDER BY m.user_id
+                FOR UPDATE OF m
+            )
+            UPDATE maintainers m
+            SET location = ST_SetSRID(ST_MakePoint(v.lon, v.lat), 4326),
+                location_updated_at = v.updated_at
+            FROM v, locked
+            WHERE m.id = locked.id
+              AND m.user_id = v.user_id
+              AND (m.location_updated_at IS NULL OR m.location_updated_at < v.updated_at)
+            RETURNING m.id, m.user_id, m.name, m.is_available, m.capacity, m.active_jobs, v.lon, v.lat, v.updated_at""";
+
+    // Postgres orders uuids bytewise, which UUID.compareTo does not (it compares signed longs)
+    private static final Comparator<LocationUpdate> POSTGRES_USER_ID_ORDER = Comparator
+            .comparing((LocationUpdate update) -> update.userId().getMostSignificantBits(), Long::compareUnsigned)
+            .thenComparing(update -> update.userId().getLeastSignificantBits(), Long::compareUnsigned);
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record LocationUpdate(UUID userId, double latitude, double longitude, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * Moves every maintainer in the batch to its position, unless its stored position is newer.
+     * @param updates At most one update per user.
+     * @return The maintainers that moved, with their new location.
+     */
+    public List<Maintainer> updateLocations(List<LocationUpdate> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        updates = updates.stream().sorted(POSTGRES_USER_ID_ORDER).toList();
+        UUID[] userIds = new UUID[updates.size()];
+        Double[] longitudes = new Double[updates.size()];
+        Double[] latitudes = new Double[updates.size()];
+        Timestamp[] updatedAt = new Timestamp[updates.size()];
+        for (int i = 0; i < updates.size(); i++) {
+            LocationUpdate update = updates.get(i);
+            userIds[i] = update.userId();
+            longitudes[i] = update.longitude();
+            latitudes[i] = update.latitude();
+            updatedAt[i] = Timestamp.valueOf(update.updatedAt());
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_LOCATIONS);
+            statement.setArray(1, connection.createArrayOf("uuid", userIds));
+            statement.setArray(2, connection.createArrayOf("float8", longitudes));
+            statement.setArray(3, connection.createArrayOf("float8", latitudes));
+            statement.setArray(4, connection.createArrayOf("timestamp", updatedAt));
+            return statement;
+        }, (rs, rowNum) -> Maintainer.builder()
+                .id(rs.getObject("id", UUID.class))
+                .userId(rs.getObject("user_id", UUID.class))
+                .name(rs.getString("name"))
+                .isAvailable(rs.getBoolean("is_available"))
+                .capacity(rs.getInt("capacity"))
+                .activeJobs(rs.getInt("active_jobs"))
+                .location(geometryFactory.createPoint(new Coordinate(rs.getDouble("lon"), rs.getDouble("lat"))))
+                .locationUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build());
+    }
+}
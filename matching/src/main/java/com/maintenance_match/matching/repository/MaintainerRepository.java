@@ -1,11 +1,14 @@
 package com.maintenance_match.matching.repository;
 
 import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.model.NearbyMaintainer;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -31,10 +34,67 @@ public interface MaintainerRepository extends JpaRepository<Maintainer, UUID> {
             @Param("radius") double radius
     );
 
+    /**
+     * Keyset page of available maintainers within a radius, nearest first.
+     * <p>
+     * The {@code <->} KNN operator lets Postgres walk idx_maintainers_available_location in
+     * distance order and stop after {@code limit} rows, instead of collecting and sorting every
+     * maintainer in the radius. On geography it measures on the mean sphere, which is the
+     * distance returned.
+     * @param point The center point for the search.
+     * @param radius The search radius in meters.
+     * @param afterDistance Distance of the last row of the previous page; -1 for the first page.
+     * @param afterId ID of the last row of the previous page, breaking ties on distance.
+     * @param limit Maximum number of rows.
+     * @return Up to limit maintainers strictly after the cursor, nearest first.
+     */
+    @Query(value = "SELECT m.id AS id, m.name AS name, ST_Y(m.location) AS latitude, ST_X(m.location) AS longitude, " +
+            "CAST(m.location AS geography) <-> CAST(:point AS geography) AS distance " +
+            "FROM maintainers m " +
+            "WHERE m.is_available = true " +
+            "AND m.active_jobs < m.capacity " +
+            "AND ST_DWithin(CAST(m.location AS geography), CAST(:point AS geography), :radius) " +
+            "AND (CAST(m.location AS geography) <-> CAST(:point AS geography) > :afterDistance " +
+            "  OR (CAST(m.location AS geography) <-> CAST(:point AS geography) = :afterDistance AND m.id > :afterId)) " +
+            "ORDER BY CAST(m.location AS geography) <-> CAST(:point AS geography), m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<NearbyMaintainer> findNearestAvailable(@Param("point") Point point,
+                                                @Param("radius") double radius,
+                                                @Param("afterDistance") double afterDistance,
+                                                @Param("afterId") UUID afterId,
+                                                @Param("limit") int limit);
+
     /**
      * Finds a maintainer profile by their associated user account ID.
      * @param userId The UUID of the user account.
      * @return An Optional containing the Maintainer if found.
      */
     Optional<Maintainer> findByUserId(UUID userId);
+
+    /**
+     * Atomically takes one unit of capacity from an available maintainer.
+     * The check and the increment happen in a single statement, so concurrent
+     * bookings can never push active_jobs past capacity.
+     * @param id The maintainer profile ID.
+     * @return 1 if a slot was reserved, 0 if the maintainer is unavailable, full, or missing.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE maintainers SET active_jobs = active_jobs + 1 " +
+            "WHERE id = :id AND is_available = true AND active_jobs < capacity",
+            nativeQuery = true)
+    int tryReserveCapacity(@Param("id") UUID id);
+
+    /**
+     * Atomically returns one unit of capacity; the counterpart of {@link #tryReserveCapacity}.
+     * @param id The maintainer profile ID.
+     * @return 1 if a slot was released, 0 if the maintainer had no active jobs or is missing.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE maintainers SET active_jobs = active_jobs - 1 " +
+            "WHERE id = :id AND active_jobs > 0",
+            nativeQuery = true)
+    int releaseCapacity(@Param("id") UUID id);
 }
@@ -0,0 +1,79 @@
+package com.maintenance_match.matching.repository;
+
+import com.maintenance_match.matching.model.JobParticipants;
+import com.maintenance_match.matching.model.Participant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ParticipantRepository extends JpaRepository<Participant, UUID> {
+
+    /**
+     * Resolves the customer and maintainer of each job in one query.
+     * @param jobIds The jobs to resolve.
+     * @return One row per existing job; participants without a row are null.
+     */
+    @Query("SELECT j.id AS jobId, j.userId AS userId, m.userId AS maintainerUserId, u AS user, mu AS maintainer " +
+            "FROM Job j " +
+            "JOIN Maintainer m ON m.id = j.maintainerId " +
+            "LEFT JOIN Participant u ON u.userId = j.userId " +
+            "LEFT JOIN Participant mu ON mu.userId = m.userId " +
+            "WHERE j.id IN :jobIds")
+    List<JobParticipants> findByJobIds(@Param("jobIds") Collection<UUID> jobIds);
+
+    /**
+     * Inserts or overwrites a participant from a user-changed event.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO participants (user_id, first_name, last_name, phone_number, updated_at) " +
+            "VALUES (:userId, :firstName, :lastName, :phoneNumber, :updatedAt) " +
+            "ON CONFLICT (user_id) DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name, " +
+            "phone_number = EXCLUDED.phone_number, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void upsert(@Param("userId") UUID userId,
+                @Param("firstName") String firstName,
+                @Param("lastName") String lastName,
+                @Param("phoneNumber") String phoneNumber,
+                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Inserts a participant unless one exists. Used by the backfill, whose snapshot may be
+     * older than a row an event has written in the meantime.
+     * @return 1 if inserted, 0 if the row already existed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO participants (user_id, first_name, last_name, phone_number, updated_at) " +
+            "VALUES (:userId, :firstName, :lastName, :phoneNumber, :updatedAt) " +
+            "ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId,
+                       @Param("firstName") String firstName,
+                       @Param("lastName") String lastName,
+                       @Param("phoneNumber") String phoneNumber,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Keyset page of user IDs referenced by jobs or maintainers that have no participant row.
+     * @param afterId Only IDs greater than this are returned.
+     * @param limit Maximum number of IDs.
+     * @return Missing user IDs in ascending order.
+     */
+    @Query(value = "SELECT ids.user_id FROM (" +
+            "  SELECT user_id FROM jobs UNION SELECT user_id FROM maintainers" +
+            ") ids " +
+            "WHERE ids.user_id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM participants p WHERE p.user_id = ids.user_id) " +
+            "ORDER BY ids.user_id LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findMissingUserIds(@Param("afterId") UUID afterId, @Param("limit") int limit);
+}
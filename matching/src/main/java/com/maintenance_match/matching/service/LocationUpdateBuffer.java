@@ -0,0 +1,114 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.repository.MaintainerLocationRepository;
+import com.maintenance_match.matching.repository.MaintainerLocationRepository.LocationUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces streamed maintainer GPS pings in memory and writes them in periodic batches.
+ * <p>
+ * Only the latest ping per maintainer survives a flush window, so a maintainer pinging every
+ * second costs one row write per window however often it pings, and the whole window is
+ * written with one UPDATE per batch. Pings still buffered when an instance dies are lost,
+ * which the next ping repairs.
+ * <p>
+ * Streamed moves update the in-memory spatial index but do not invalidate the nearby-search
+ * cache; its TTL bounds how long a cached search shows a maintainer's previous position.
+ */
+@Component
+@Slf4j
+public class LocationUpdateBuffer {
+
+    private final MaintainerLocationRepository locationRepository;
+    private final MaintainerSpatialIndex spatialIndex;
+    private final int batchSize;
+    private final Map<UUID, LocationUpdate> pending = new ConcurrentHashMap<>();
+    private final Counter pings;
+    private final Counter writes;
+    private final Timer flushTimer;
+
+    public LocationUpdateBuffer(MaintainerLocationRepository locationRepository,
+                                MaintainerSpatialIndex spatialIndex,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.matching.location-updates.batch-size:5000}") int batchSize) {
+        this.locationRepository = locationRepository;
+        this.spatialIndex = spatialIndex;
+        this.batchSize = batchSize;
+        pings = Counter.builder("matching.location.pings")
+                .description("Maintainer location pings received")
+                .register(meterRegistry);
+        writes = Counter.builder("matching.location.writes")
+                .description("Maintainer rows written by location flushes")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("matching.location.flush")
+                .description("Time to write one window of coalesced locations")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("matching.location.pending", List.of(), pending);
+    }
+
+    /**
+     * Records a maintainer's position, replacing any not yet written.
+     */
+    public void record(UUID userId, double latitude, double longitude) {
+        pending.put(userId, new LocationUpdate(userId, latitude, longitude, LocalDateTime.now()));
+        pings.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.matching.location-updates.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushTimer.record(() -> {
+            List<LocationUpdate> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+            // Removing key by key keeps a ping that arrives mid-flush for the next window
+            for (UUID userId : pending.keySet()) {
+                LocationUpdate update = pending.remove(userId);
+                if (update != null) {
+                    batch.add(update);
+                }
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            write(batch);
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<LocationUpdate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Maintainer> moved = locationRepository.updateLocations(batch);
+            moved.forEach(spatialIndex::upsertAfterCommit);
+            writes.increment(moved.size());
+            log.debug("Flushed {} coalesced locations, {} maintainers moved", batch.size(), moved.size());
+        } catch (RuntimeException e) {
+            // Keep the positions for the next flush unless a newer ping has replaced them
+            batch.forEach(update -> pending.putIfAbsent(update.userId(), update));
+            log.warn("Failed to flush {} maintainer locations: {}", batch.size(), e.toString());
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MaintainerEventListener {
 
     private final MaintainerRepository maintainerRepository;
+    private final MaintainerSpatialIndex spatialIndex;
 
     @KafkaListener(topics = "${app.kafka.topics.maintainer-profile-creation}", groupId = "${spring.kafka.consumer.group-id}")
     @Transactional
@@ -33,6 +34,7 @@ public class MaintainerEventListener {
                 .build(); // Capacity and activeJobs default to 1 and 0
 
         maintainerRepository.save(newProfile);
+        spatialIndex.upsertAfterCommit(newProfile);
         log.info("Created maintainer profile for {}", event.getName());
     }
 }
@@ -0,0 +1,380 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.dto.MaintainerDto;
+import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.repository.MaintainerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resident lat/lon cell grid over all maintainer locations.
+ * <p>
+ * Postgres is only read on startup and on the periodic reconciliation; in between, the
+ * service pushes every committed maintainer change into the index so radius searches can
+ * be answered from memory.
+ */
+@Component
+@Slf4j
+public class MaintainerSpatialIndex {
+
+    // Mean Earth radius. PostGIS measures geography distances on the WGS 84 spheroid, so
+    // haversine distances here differ from ST_Distance/ST_DWithin by up to ~0.5%.
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    /**
+     * Relative error bound between sphere and spheroid distances. Maintainers whose distance
+     * lies this close to the search radius may be matched by only one of the two search paths.
+     */
+    public static final double SPHEROID_TOLERANCE = 0.005;
+    private static final double METERS_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_METERS / 180.0;
+    // Past this many cells a full scan is cheaper than walking the grid.
+    private static final int MAX_CELLS_PER_QUERY = 4_096;
+    // Lower-case UUID strings sort in the same order as Postgres' uuid type
+    static final Comparator<MaintainerDto> NEAREST_FIRST = Comparator
+            .comparingDouble(MaintainerDto::getDistanceInMeters)
+            .thenComparing(m -> m.getId().toString());
+
+    private final MaintainerRepository maintainerRepository;
+    private final NearbySearchMode mode;
+    private final double cellSizeDegrees;
+
+    private volatile Map<UUID, IndexedMaintainer> entries = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<UUID>> cells = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    // Guards the swap in rebuild() against concurrent upserts; a ReentrantLock rather than
+    // synchronized because upserts run in after-commit hooks on (possibly virtual) request threads.
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Latest change per maintainer applied while a rebuild is loading, null outside a rebuild.
+    // An empty Optional records a removal.
+    private Map<UUID, Optional<IndexedMaintainer>> changedDuringRebuild;
+
+    public MaintainerSpatialIndex(MaintainerRepository maintainerRepository,
+                                  @Value("${app.matching.nearby-search.mode:database}") NearbySearchMode mode,
+                                  @Value("${app.matching.nearby-search.cell-size-degrees:0.05}") double cellSizeDegrees) {
+        this.maintainerRepository = maintainerRepository;
+        this.mode = mode;
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public NearbySearchMode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return true once the index has been populated and can answer searches.
+     */
+    public boolean isReady() {
+        return mode != NearbySearchMode.DATABASE && loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (mode != NearbySearchMode.DATABASE) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Periodically reloads the index from Postgres to repair any drift, e.g. updates
+     * committed by another instance or applied out of order.
+     */
+    @Scheduled(initialDelayString = "${app.matching.nearby-search.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.matching.nearby-search.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (mode != NearbySearchMode.DATABASE) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the index contents with a fresh snapshot of the maintainers table.
+     * <p>
+     * Changes applied while the snapshot loads are recorded and replayed onto it before it
+     * becomes visible, so a commit that lands between the read and the swap is not lost.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            swapLock.lock();
+            try {
+                changedDuringRebuild = new HashMap<>();
+            } finally {
+                swapLock.unlock();
+            }
+
+            Map<UUID, IndexedMaintainer> newEntries = new ConcurrentHashMap<>();
+            Map<Long, Set<UUID>> newCells = new ConcurrentHashMap<>();
+            try {
+                for (Maintainer maintainer : maintainerRepository.findAll()) {
+                    IndexedMaintainer snapshot = IndexedMaintainer.from(maintainer);
+                    if (snapshot != null) {
+                        newEntries.put(snapshot.id(), snapshot);
+                        newCells.computeIfAbsent(cellKey(snapshot.latitude(), snapshot.longitude()), k -> ConcurrentHashMap.newKeySet())
+                                .add(snapshot.id());
+                    }
+                }
+            } catch (RuntimeException e) {
+                swapLock.lock();
+                try {
+                    changedDuringRebuild = null;
+                } finally {
+                    swapLock.unlock();
+                }
+                throw e;
+            }
+
+            int replayed;
+            swapLock.lock();
+            try {
+                replayed = changedDuringRebuild.size();
+                changedDuringRebuild.forEach((id, change) -> {
+                    if (change.isPresent()) {
+                        apply(newEntries, newCells, change.get());
+                    } else {
+                        applyRemoval(newEntries, newCells, id);
+                    }
+                });
+                changedDuringRebuild = null;
+                this.entries = newEntries;
+                this.cells = newCells;
+                this.loaded = true;
+            } finally {
+                swapLock.unlock();
+            }
+            log.info("Maintainer spatial index rebuilt with {} entries ({} replayed) in {} ms",
+                    newEntries.size(), replayed, System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules the maintainer's current state to be applied to the index once the
+     * surrounding transaction commits, or immediately if there is none.
+     */
+    public void upsertAfterCommit(Maintainer maintainer) {
+        if (mode == NearbySearchMode.DATABASE) {
+            return;
+        }
+        IndexedMaintainer snapshot = IndexedMaintainer.from(maintainer);
+        UUID id = maintainer.getId();
+        runAfterCommit(() -> {
+            if (snapshot == null) {
+                remove(id);
+            } else {
+                upsert(snapshot);
+            }
+        });
+    }
+
+    void upsert(IndexedMaintainer snapshot) {
+        swapLock.lock();
+        try {
+            apply(entries, cells, snapshot);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(snapshot.id(), Optional.of(snapshot));
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    void remove(UUID maintainerId) {
+        swapLock.lock();
+        try {
+            applyRemoval(entries, cells, maintainerId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(maintainerId, Optional.empty());
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void apply(Map<UUID, IndexedMaintainer> entries, Map<Long, Set<UUID>> cells, IndexedMaintainer snapshot) {
+        long newCell = cellKey(snapshot.latitude(), snapshot.longitude());
+        entries.compute(snapshot.id(), (id, previous) -> {
+            if (previous != null) {
+                long oldCell = cellKey(previous.latitude(), previous.longitude());
+                if (oldCell != newCell) {
+                    removeFromCell(cells, oldCell, id);
+                }
+            }
+            cells.computeIfAbsent(newCell, k -> ConcurrentHashMap.newKeySet()).add(id);
+            return snapshot;
+        });
+    }
+
+    private void applyRemoval(Map<UUID, IndexedMaintainer> entries, Map<Long, Set<UUID>> cells, UUID maintainerId) {
+        entries.computeIfPresent(maintainerId, (id, previous) -> {
+            removeFromCell(cells, cellKey(previous.latitude(), previous.longitude()), id);
+            return null;
+        });
+    }
+
+    /**
+     * Finds available maintainers with spare capacity within the radius, mirroring
+     * {@link MaintainerRepository#findAvailableMaintainersWithinRadius}.
+     * @param latitude The latitude of the search center.
+     * @param longitude The longitude of the search center.
+     * @param radiusInMeters The search radius in meters.
+     * @return The matching maintainers.
+     */
+    public List<MaintainerDto> findAvailableWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        Map<UUID, IndexedMaintainer> currentEntries = this.entries;
+        List<MaintainerDto> result = new ArrayList<>();
+
+        double latDelta = radiusInMeters / METERS_PER_DEGREE_LAT;
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double lonDelta = cosLat < 1e-9 ? 360.0 : latDelta / cosLat;
+
+        long minRow = (long) Math.floor(minLat / cellSizeDegrees);
+        long maxRow = (long) Math.floor(maxLat / cellSizeDegrees);
+        long minCol = (long) Math.floor((longitude - lonDelta) / cellSizeDegrees);
+        long maxCol = (long) Math.floor((longitude + lonDelta) / cellSizeDegrees);
+
+        boolean crossesAntimeridian = longitude - lonDelta < -180.0 || longitude + lonDelta > 180.0;
+        if (crossesAntimeridian || (maxRow - minRow + 1) * (maxCol - minCol + 1) > MAX_CELLS_PER_QUERY) {
+            for (IndexedMaintainer candidate : currentEntries.values()) {
+                collectIfMatch(candidate, latitude, longitude, radiusInMeters, result);
+            }
+            return result;
+        }
+
+        Map<Long, Set<UUID>> currentCells = this.cells;
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Set<UUID> ids = currentCells.get(pack(row, col));
+                if (ids == null) {
+                    continue;
+                }
+                for (UUID id : ids) {
+                    IndexedMaintainer candidate = currentEntries.get(id);
+                    if (candidate != null) {
+                        collectIfMatch(candidate, latitude, longitude, radiusInMeters, result);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ranked page of available maintainers within the radius, mirroring
+     * {@link MaintainerRepository#findNearestAvailable}: nearest first, ties broken by ID in
+     * Postgres' UUID order, so a cursor from either search mode continues in the other.
+     * @param afterDistance Distance of the last result of the previous page; -1 for the first page.
+     * @param afterId ID of the last result of the previous page.
+     * @param limit Maximum number of results.
+     * @return Up to limit maintainers strictly after the cursor, with their distance set.
+     */
+    public List<MaintainerDto> findNearestAvailable(double latitude, double longitude, double radiusInMeters,
+                                                    double afterDistance, UUID afterId, int limit) {
+        String afterKey = afterId.toString();
+        return findAvailableWithinRadius(latitude, longitude, radiusInMeters).stream()
+                .filter(m -> m.getDistanceInMeters() > afterDistance
+                        || (m.getDistanceInMeters() == afterDistance && m.getId().toString().compareTo(afterKey) > 0))
+                .sorted(NEAREST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void collectIfMatch(IndexedMaintainer candidate, double latitude, double longitude,
+                                double radiusInMeters, List<MaintainerDto> result) {
+        if (candidate.isAvailable() && candidate.activeJobs() < candidate.capacity()) {
+            double distance = distanceInMeters(latitude, longitude, candidate.latitude(), candidate.longitude());
+            if (distance <= radiusInMeters) {
+                result.add(candidate.toDto(distance));
+            }
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return pack((long) Math.floor(latitude / cellSizeDegrees), (long) Math.floor(longitude / cellSizeDegrees));
+    }
+
+    private static long pack(long row, long col) {
+        return (row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static void removeFromCell(Map<Long, Set<UUID>> cells, long cell, UUID id) {
+        cells.computeIfPresent(cell, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Haversine great-circle distance between two WGS 84 coordinates on the mean sphere.
+     * Within {@link #SPHEROID_TOLERANCE} of the spheroid distance PostGIS reports.
+     */
+    static double distanceInMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Immutable copy of the fields a radius search needs, detached from the persistence context.
+     */
+    record IndexedMaintainer(UUID id, String name, double latitude, double longitude,
+                             boolean isAvailable, int capacity, int activeJobs) {
+
+        static IndexedMaintainer from(Maintainer maintainer) {
+            if (maintainer.getId() == null || maintainer.getLocation() == null) {
+                return null;
+            }
+            return new IndexedMaintainer(
+                    maintainer.getId(),
+                    maintainer.getName(),
+                    maintainer.getLocation().getY(),
+                    maintainer.getLocation().getX(),
+                    maintainer.isAvailable(),
+                    maintainer.getCapacity(),
+                    maintainer.getActiveJobs());
+        }
+
+        MaintainerDto toDto(double distanceInMeters) {
+            return MaintainerDto.builder()
+                    .id(id)
+                    .name(name)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .distanceInMeters(distanceInMeters)
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.maintenance_match.matching.service;
 
 import com.maintenance_match.matching.dto.*;
+import com.maintenance_match.matching.model.JobStatus;
 
 import java.util.List;
 import java.util.UUID;
@@ -8,13 +9,16 @@ import java.util.UUID;
 public interface MatchingService {
 
     /**
-     * Finds available maintainers near a given location.
+     * Finds available maintainers near a given location, nearest first.
      * @param latitude The latitude of the search center.
      * @param longitude The longitude of the search center.
      * @param radiusInMeters The search radius in meters.
-     * @return A list of available maintainers as DTOs.
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit The maximum number of maintainers to return (capped at 100).
+     * @return A page of available maintainers with their distance, and the cursor for the next page.
      */
-    List<MaintainerDto> findNearbyMaintainers(double latitude, double longitude, double radiusInMeters);
+    CursorPage<MaintainerDto> findNearbyMaintainers(double latitude, double longitude, double radiusInMeters,
+                                                    String cursor, int limit);
 
     /**
      * Creates a new job by matching a user with a selected maintainer.
@@ -25,12 +29,15 @@ public interface MatchingService {
     JobDto createJob(MatchRequestDto request, UUID userId);
 
     /**
-     * Retrieves all jobs for a given user, identified by their role.
+     * Retrieves a page of jobs for a given user, identified by their role, newest first.
      * @param userId The ID of the user.
      * @param role The role of the user ('USER' or 'MAINTAINER').
-     * @return A list of jobs as DTOs.
+     * @param status Optional status filter; null returns jobs in any status.
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param size The maximum number of jobs to return (capped at 100).
+     * @return A page of jobs as DTOs with the cursor for the next page.
      */
-    List<JobDto> getMyJobs(UUID userId, String role);
+    CursorPage<JobDto> getMyJobs(UUID userId, String role, JobStatus status, String cursor, int size);
 
     /**
      * Terminates a job, either by completing or cancelling it.
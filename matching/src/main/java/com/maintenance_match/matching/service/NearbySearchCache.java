@@ -0,0 +1,211 @@
+package com.maintenance_match.matching.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maintenance_match.matching.dto.MaintainerDto;
+import com.maintenance_match.matching.util.Geohash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of nearby-search candidates, shared by every search whose center falls in
+ * the same geohash cell and whose radius rounds up to the same bucket.
+ * <p>
+ * An entry holds every available maintainer within (bucket radius + half the cell diagonal)
+ * of the cell center, widened by {@link MaintainerSpatialIndex#SPHEROID_TOLERANCE}, which
+ * includes everything any search in that cell and bucket can return. Each search then measures
+ * from its own center on a sphere, as the in-memory index does, while the database measures on
+ * the spheroid. The two agree except within that tolerance of the radius, where a maintainer
+ * can fall on either side, and on distances, which differ by up to the same fraction; ranking
+ * is by the sphere distance throughout, so cursors stay consistent within the cached path.
+ * <p>
+ * Entries expire after the TTL and are dropped after commit when a maintainer inside their
+ * area changes availability, capacity or location on this instance. A load that was already
+ * running when such a change committed may have read the old rows, so it is not kept once it
+ * finishes. Other instances only see the change once their entries expire.
+ * <p>
+ * Off by default. A miss loads every available maintainer in the candidate area and ranks
+ * them in memory, which costs more than the KNN query's index-ordered LIMIT unless the same
+ * cells are searched many times within the TTL. Compare mode never uses it, so the index is
+ * always checked against the database.
+ */
+@Component
+@Slf4j
+public class NearbySearchCache {
+
+    private final boolean enabled;
+    private final int geohashPrecision;
+    private final int[] radiusBuckets;
+    private final Cache<CellKey, Candidates> cache;
+    private final Timer entryAge;
+    private final Counter invalidations;
+    // Bumped by every invalidation before it drops entries; loads that span a bump are not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public NearbySearchCache(MeterRegistry meterRegistry,
+                             @Value("${app.matching.nearby-cache.enabled:false}") boolean enabled,
+                             @Value("${app.matching.nearby-cache.ttl:15s}") Duration ttl,
+                             @Value("${app.matching.nearby-cache.max-entries:10000}") long maxEntries,
+                             @Value("${app.matching.nearby-cache.geohash-precision:6}") int geohashPrecision,
+                             @Value("${app.matching.nearby-cache.radius-buckets:1000,2000,5000,10000}") int[] radiusBuckets) {
+        this.enabled = enabled;
+        this.geohashPrecision = geohashPrecision;
+        this.radiusBuckets = radiusBuckets.clone();
+        Arrays.sort(this.radiusBuckets);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} gives the hit ratio; the age of served entries is the staleness
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "nearby-search");
+        entryAge = Timer.builder("matching.nearby.cache.age")
+                .description("Age of the cached candidates served by a nearby search")
+                .register(meterRegistry);
+        invalidations = Counter.builder("matching.nearby.cache.invalidations")
+                .description("Cached nearby searches dropped because a maintainer in their area changed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every available maintainer within the radius, in any order.
+     */
+    @FunctionalInterface
+    public interface CandidateLoader {
+        List<MaintainerDto> load(double latitude, double longitude, double radiusInMeters);
+    }
+
+    /**
+     * @return true if searches with this radius are served from the cache.
+     */
+    public boolean covers(double radiusInMeters) {
+        return enabled && radiusInMeters <= radiusBuckets[radiusBuckets.length - 1];
+    }
+
+    /**
+     * Ranked page of available maintainers within the radius, with the same ordering and cursor
+     * semantics as {@link MaintainerSpatialIndex#findNearestAvailable}.
+     * @param loader Called on a miss with the center and radius of the cell's candidate area.
+     */
+    public List<MaintainerDto> findNearestAvailable(double latitude, double longitude, double radiusInMeters,
+                                                    double afterDistance, UUID afterId, int limit,
+                                                    CandidateLoader loader) {
+        int bucket = bucketFor(radiusInMeters);
+        CellKey key = new CellKey(Geohash.encode(latitude, longitude, geohashPrecision), bucket);
+
+        boolean[] loaded = {false};
+        Candidates candidates = cache.get(key, k -> {
+            loaded[0] = true;
+            return load(k, loader, generation.get());
+        });
+        if (!loaded[0]) {
+            entryAge.record(System.nanoTime() - candidates.loadedAtNanos(), TimeUnit.NANOSECONDS);
+        } else if (candidates.generation() != generation.get()) {
+            // An invalidation ran during the load and may have missed this entry; this search still uses it
+            cache.asMap().remove(key, candidates);
+        }
+
+        String afterKey = afterId.toString();
+        List<MaintainerDto> result = new ArrayList<>();
+        for (MaintainerDto candidate : candidates.maintainers()) {
+            double distance = MaintainerSpatialIndex.distanceInMeters(latitude, longitude, candidate.getLatitude(), candidate.getLongitude());
+            if (distance <= radiusInMeters
+                    && (distance > afterDistance || (distance == afterDistance && candidate.getId().toString().compareTo(afterKey) > 0))) {
+                result.add(MaintainerDto.builder()
+                        .id(candidate.getId())
+                        .name(candidate.getName())
+                        .latitude(candidate.getLatitude())
+                        .longitude(candidate.getLongitude())
+                        .distanceInMeters(distance)
+                        .build());
+            }
+        }
+        result.sort(MaintainerSpatialIndex.NEAREST_FIRST);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Once the surrounding transaction commits (or immediately if there is none), drops every
+     * entry whose candidate area contains one of the locations. Pass a maintainer's location
+     * both before and after a move.
+     */
+    public void invalidateAfterCommit(Point... locations) {
+        if (!enabled) {
+            return;
+        }
+        List<Point> points = Arrays.stream(locations).filter(Objects::nonNull).toList();
+        if (points.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> {
+            generation.incrementAndGet();
+            cache.asMap().entrySet().removeIf(entry -> {
+                Candidates area = entry.getValue();
+                for (Point point : points) {
+                    if (MaintainerSpatialIndex.distanceInMeters(area.centerLatitude(), area.centerLongitude(),
+                            point.getY(), point.getX()) <= area.radiusInMeters()) {
+                        invalidations.increment();
+                        return true;
+                    }
+                }
+                return false;
+            });
+        });
+    }
+
+    private int bucketFor(double radiusInMeters) {
+        for (int bucket : radiusBuckets) {
+            if (radiusInMeters <= bucket) {
+                return bucket;
+            }
+        }
+        throw new IllegalArgumentException("Radius " + radiusInMeters + " is not covered by the nearby search cache");
+    }
+
+    private static Candidates load(CellKey key, CandidateLoader loader, long generation) {
+        double[] bounds = Geohash.bounds(key.geohash());
+        double centerLat = (bounds[0] + bounds[2]) / 2;
+        double centerLon = (bounds[1] + bounds[3]) / 2;
+        // Every search centered in the cell lies within half the diagonal of its center; the
+        // loader measures on the spheroid, so widen the area to hold every sphere-distance match
+        double radius = (key.radiusBucket()
+                + MaintainerSpatialIndex.distanceInMeters(centerLat, centerLon, bounds[2], bounds[3]))
+                * (1 + MaintainerSpatialIndex.SPHEROID_TOLERANCE);
+        List<MaintainerDto> maintainers = List.copyOf(loader.load(centerLat, centerLon, radius));
+        return new Candidates(maintainers, centerLat, centerLon, radius, System.nanoTime(), generation);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    record CellKey(String geohash, int radiusBucket) {
+    }
+
+    record Candidates(List<MaintainerDto> maintainers, double centerLatitude, double centerLongitude,
+                      double radiusInMeters, long loadedAtNanos, long generation) {
+    }
+}
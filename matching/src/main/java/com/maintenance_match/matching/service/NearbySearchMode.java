@@ -0,0 +1,13 @@
+package com.maintenance_match.matching.service;
+
+/**
+ * Selects which backend answers nearby maintainer searches.
+ */
+public enum NearbySearchMode {
+    /** Every search runs the PostGIS query. */
+    DATABASE,
+    /** Searches are answered by the resident {@link MaintainerSpatialIndex}. */
+    MEMORY,
+    /** Both paths run; differences are logged and the database result is returned. */
+    COMPARE
+}
@@ -0,0 +1,130 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.client.AuthClient;
+import com.maintenance_match.matching.dto.UserDto;
+import com.maintenance_match.matching.repository.ParticipantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills the participants table for users that jobs and maintainers reference but no
+ * user-changed event has covered, typically everyone who signed up before the table existed.
+ * <p>
+ * Only missing rows are inserted, so a run never overwrites the newer details an event has
+ * written meanwhile, and running it again is harmless.
+ * <p>
+ * One instance runs it at a time, under a session-level advisory lock held on a connection
+ * of its own that stays idle, outside any transaction, for the whole run. Each batch commits
+ * on its own and the lookup in auth runs outside any transaction, so a long backfill holds
+ * no row locks or open transaction while it waits on auth. If the instance dies, closing the
+ * session releases the lock.
+ */
+@Component
+@Slf4j
+public class ParticipantBackfill {
+
+    // Advisory lock key shared by every matching instance ("bkfill" in ASCII)
+    private static final long BACKFILL_LOCK_ID = 0x626B66696C6CL;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ParticipantRepository participantRepository;
+    private final AuthClient authClient;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean onStartup;
+    // At most the batch size auth's internal users endpoint accepts
+    private final int batchSize;
+
+    public ParticipantBackfill(ParticipantRepository participantRepository,
+                               AuthClient authClient,
+                               DataSource dataSource,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.matching.participants.backfill.on-startup:true}") boolean onStartup,
+                               @Value("${app.matching.participants.backfill.batch-size:500}") int batchSize) {
+        this.participantRepository = participantRepository;
+        this.authClient = authClient;
+        this.dataSource = dataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.onStartup = onStartup;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (onStartup) {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                // Job responses fall back to auth for missing rows; try again on the next start
+                log.warn("Participant backfill failed: {}", e.toString());
+            }
+        }
+    }
+
+    /**
+     * Inserts a participant row for every referenced user that auth still knows.
+     * @return The number of rows inserted, or -1 if another instance is running the backfill.
+     */
+    public int backfill() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            lockConnection.setAutoCommit(true);
+            if (!advisoryLock(lockConnection, "pg_try_advisory_lock")) {
+                log.info("Participant backfill is already running on another instance");
+                return -1;
+            }
+            try {
+                int inserted = backfillInBatches();
+                log.info("Participant backfill inserted {} rows", inserted);
+                return inserted;
+            } finally {
+                advisoryLock(lockConnection, "pg_advisory_unlock");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not take the participant backfill lock", e);
+        }
+    }
+
+    private int backfillInBatches() {
+        int count = 0;
+        UUID afterId = FIRST_ID;
+        List<UUID> missing;
+        while (!(missing = participantRepository.findMissingUserIds(afterId, batchSize)).isEmpty()) {
+            List<UserDto> users = authClient.getUsersByIds(missing);
+            LocalDateTime now = LocalDateTime.now();
+            Integer inserted = transactionTemplate.execute(status -> {
+                int batchCount = 0;
+                for (UserDto user : users) {
+                    batchCount += participantRepository.insertIfAbsent(user.getId(), user.getFirstName(),
+                            user.getLastName(), user.getPhoneNumber(), now);
+                }
+                return batchCount;
+            });
+            count += inserted == null ? 0 : inserted;
+            // Users auth no longer knows are skipped rather than looked up again
+            afterId = missing.get(missing.size() - 1);
+        }
+        return count;
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, BACKFILL_LOCK_ID);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
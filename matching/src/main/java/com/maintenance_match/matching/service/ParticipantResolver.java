@@ -0,0 +1,170 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.dto.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Resolves the job participants' profiles for a response within a fixed time budget.
+ * <p>
+ * Cached profiles are returned immediately. Misses are fetched from auth concurrently on a
+ * bounded executor: one call per user for a single job, one batch call for a page. Anything
+ * not back when the budget runs out (or that failed, or was rejected because the executor is
+ * saturated) is left out, and the response carries those participants with only their ID.
+ * Lookups that finish late still populate the cache for the next request.
+ */
+@Component
+@Slf4j
+public class ParticipantResolver implements DisposableBean {
+
+    // Up to this many misses are fetched one call each; beyond that a batch call is cheaper
+    private static final int PER_USER_FAN_OUT_LIMIT = 4;
+
+    private final UserProfileCache userProfileCache;
+    private final AsyncTaskExecutor executor;
+    private final Duration timeout;
+    private final Timer completeTimer;
+    private final Timer degradedTimer;
+
+    public ParticipantResolver(UserProfileCache userProfileCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.matching.participants.timeout:800ms}") Duration timeout,
+                               @Value("${app.matching.participants.max-concurrency:32}") int maxConcurrency,
+                               @Value("${app.matching.participants.queue-capacity:256}") int queueCapacity,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.userProfileCache = userProfileCache;
+        this.timeout = timeout;
+
+        if (virtualThreads) {
+            executor = new BoundedVirtualThreadExecutor(maxConcurrency, queueCapacity);
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("participants-");
+            pool.setCorePoolSize(maxConcurrency);
+            pool.setMaxPoolSize(maxConcurrency);
+            pool.setQueueCapacity(queueCapacity);
+            pool.setAllowCoreThreadTimeOut(true);
+            pool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+            pool.initialize();
+            executor = pool;
+        }
+
+        completeTimer = Timer.builder("matching.participants.lookup")
+                .description("Time to resolve the participants of a job response")
+                .tag("outcome", "complete")
+                .register(meterRegistry);
+        degradedTimer = Timer.builder("matching.participants.lookup")
+                .description("Time to resolve the participants of a job response")
+                .tag("outcome", "degraded")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the profiles of every user that could be resolved within the time budget.
+     */
+    public Map<UUID, UserDto> resolve(Collection<UUID> userIds) {
+        long start = System.nanoTime();
+        Map<UUID, UserDto> usersById = userProfileCache.getCachedUsers(userIds);
+        List<UUID> misses = userIds.stream().filter(id -> !usersById.containsKey(id)).distinct().toList();
+        if (misses.isEmpty()) {
+            completeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return usersById;
+        }
+
+        List<Future<Map<UUID, UserDto>>> lookups = new ArrayList<>();
+        try {
+            if (misses.size() <= PER_USER_FAN_OUT_LIMIT) {
+                for (UUID userId : misses) {
+                    lookups.add(executor.submit(() -> singleUser(userId)));
+                }
+            } else {
+                lookups.add(executor.submit(() -> userProfileCache.getUsers(misses)));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("Participant lookup executor is saturated; {} of {} lookups not started", misses.size() - lookups.size(), misses.size());
+        }
+
+        long deadline = start + timeout.toNanos();
+        for (Future<Map<UUID, UserDto>> lookup : lookups) {
+            try {
+                usersById.putAll(lookup.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                log.warn("Participant lookup did not finish within {}", timeout);
+            } catch (ExecutionException e) {
+                log.warn("Participant lookup failed: {}", e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        boolean complete = usersById.keySet().containsAll(misses);
+        (complete ? completeTimer : degradedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return usersById;
+    }
+
+    private Map<UUID, UserDto> singleUser(UUID userId) {
+        UserDto user = userProfileCache.getUser(userId);
+        return user != null ? Map.of(userId, user) : Map.of();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * A virtual thread per lookup with the same limits as the pool: at most maxConcurrency
+     * calls to auth at once and queueCapacity more waiting, beyond which lookups are rejected.
+     */
+    private static final class BoundedVirtualThreadExecutor implements AsyncTaskExecutor {
+
+        private final VirtualThreadTaskExecutor delegate = new VirtualThreadTaskExecutor("participants-");
+        private final Semaphore admitted;
+        private final Semaphore running;
+
+        BoundedVirtualThreadExecutor(int maxConcurrency, int queueCapacity) {
+            admitted = new Semaphore(maxConcurrency + queueCapacity);
+            running = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!admitted.tryAcquire()) {
+                throw new RejectedExecutionException("Participant lookups are at their limit");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        running.acquire();
+                        try {
+                            task.run();
+                        } finally {
+                            running.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        admitted.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                admitted.release();
+                throw e;
+            }
+        }
+    }
+}
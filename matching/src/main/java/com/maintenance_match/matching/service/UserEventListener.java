@@ -0,0 +1,42 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.dto.UserChangedEvent;
+import com.maintenance_match.matching.repository.ParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventListener {
+
+    private final UserProfileCache userProfileCache;
+    private final ParticipantRepository participantRepository;
+
+    // Every instance is assigned all partitions without a consumer group so each local cache
+    // sees every change and a restart leaves no group behind.
+    @KafkaListener(topicPartitions = @TopicPartition(topic = "${app.kafka.topics.user-changed}",
+            partitions = "#{@kafkaConsumerConfig.userChangedPartitions()}"),
+            containerFactory = "userChangedBroadcastContainerFactory")
+    public void onUserChanged(UserChangedEvent event) {
+        log.info("User {} changed ({}). Evicting cached profile.", event.getUserId(), event.getChangeType());
+        userProfileCache.evict(event.getUserId());
+    }
+
+    // The participants table is shared, so one group across all instances applies each change once.
+    // Events are keyed by user ID, so a user's changes arrive in order.
+    @KafkaListener(topics = "${app.kafka.topics.user-changed}",
+            groupId = "${app.kafka.participants-group-id}",
+            containerFactory = "userChangedListenerContainerFactory",
+            properties = "auto.offset.reset=earliest")
+    public void updateParticipant(UserChangedEvent event) {
+        log.debug("Updating participant {} ({})", event.getUserId(), event.getChangeType());
+        participantRepository.upsert(event.getUserId(), event.getFirstName(), event.getLastName(),
+                event.getPhoneNumber(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,99 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.client.AuthClient;
+import com.maintenance_match.matching.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded local cache of user details owned by the auth service.
+ * Entries expire by size/TTL (see spring.cache.caffeine.spec) and are evicted early
+ * when auth publishes a user-changed event. A batch lookup that an eviction overlapped drops
+ * what it cached again, so a profile read before the change never outlives the eviction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileCache {
+
+    public static final String CACHE_NAME = "users";
+    // Matches the maximum batch size accepted by auth's internal users endpoint
+    private static final int USER_BATCH_SIZE = 1000;
+
+    private final AuthClient authClient;
+    private final CacheManager cacheManager;
+    // Bumped by every eviction before it evicts; batch lookups that span a bump are not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns the user's details, loading them from auth on a cache miss.
+     */
+    public UserDto getUser(UUID userId) {
+        return cache().get(userId, () -> authClient.getUserById(userId));
+    }
+
+    /**
+     * Returns the details of every user that could be resolved. Misses are fetched
+     * from auth with as few batch calls as possible.
+     */
+    public Map<UUID, UserDto> getUsers(Collection<UUID> userIds) {
+        Cache cache = cache();
+        Map<UUID, UserDto> usersById = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+
+        for (UUID userId : userIds) {
+            UserDto cached = cache.get(userId, UserDto.class);
+            if (cached != null) {
+                usersById.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += USER_BATCH_SIZE) {
+            List<UUID> chunk = misses.subList(from, Math.min(misses.size(), from + USER_BATCH_SIZE));
+            long loadedAt = generation.get();
+            List<UserDto> users = authClient.getUsersByIds(chunk);
+            for (UserDto user : users) {
+                cache.putIfAbsent(user.getId(), user);
+                usersById.put(user.getId(), user);
+            }
+            if (generation.get() != loadedAt) {
+                // An eviction ran during the call and may have missed these entries; this lookup still uses them
+                users.forEach(user -> cache.evict(user.getId()));
+            }
+        }
+        return usersById;
+    }
+
+    /**
+     * Returns the details of the given users that are already cached, without calling auth.
+     */
+    public Map<UUID, UserDto> getCachedUsers(Collection<UUID> userIds) {
+        Cache cache = cache();
+        Map<UUID, UserDto> usersById = new HashMap<>();
+        for (UUID userId : userIds) {
+            UserDto cached = cache.get(userId, UserDto.class);
+            if (cached != null) {
+                usersById.put(userId, cached);
+            }
+        }
+        return usersById;
+    }
+
+    public void evict(UUID userId) {
+        generation.incrementAndGet();
+        cache().evict(userId);
+        log.debug("Evicted cached profile for user {}", userId);
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache '" + CACHE_NAME + "' is not configured");
+    }
+}
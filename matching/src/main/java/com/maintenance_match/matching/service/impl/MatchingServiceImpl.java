@@ -1,16 +1,28 @@
 package com.maintenance_match.matching.service.impl;
 
-import com.maintenance_match.matching.client.AuthClient;
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.outbox.OutboxPublisher;
+import com.maintenance_match.common.util.UuidV7;
 import com.maintenance_match.matching.dto.*;
 import com.maintenance_match.matching.exception.BadRequestException;
 import com.maintenance_match.matching.exception.ResourceNotFoundException;
 import com.maintenance_match.matching.exception.CustomAccessDeniedException;
 import com.maintenance_match.matching.model.Job;
+import com.maintenance_match.matching.model.JobParticipants;
 import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.model.JobSummary;
 import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.model.Participant;
 import com.maintenance_match.matching.repository.JobRepository;
 import com.maintenance_match.matching.repository.MaintainerRepository;
+import com.maintenance_match.matching.repository.ParticipantRepository;
+import com.maintenance_match.matching.service.MaintainerSpatialIndex;
 import com.maintenance_match.matching.service.MatchingService;
+import com.maintenance_match.matching.service.NearbySearchCache;
+import com.maintenance_match.matching.service.NearbySearchMode;
+import com.maintenance_match.matching.service.ParticipantResolver;
+import com.maintenance_match.matching.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
@@ -18,11 +30,13 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -33,41 +47,106 @@ public class MatchingServiceImpl implements MatchingService {
 
     private final JobRepository jobRepository;
     private final MaintainerRepository maintainerRepository;
-    private final AuthClient authClient;
-    private final KafkaTemplate<String, NotificationEvent> kafkaTemplate;
+    private final ParticipantRepository participantRepository;
+    private final ParticipantResolver participantResolver;
+    private final MaintainerSpatialIndex spatialIndex;
+    private final NearbySearchCache nearbySearchCache;
+    private final OutboxPublisher outboxPublisher;
 
     @Value("${app.kafka.topics.notification-send}")
     private String notificationTopic;
 
+    @Value("${app.matching.participants.auth-fallback:true}")
+    private boolean participantAuthFallback;
+
     private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final int MAX_JOB_PAGE_SIZE = 100;
+    private static final int MAX_NEARBY_PAGE_SIZE = 100;
+    // Cursor position before the nearest possible result
+    private static final double FIRST_PAGE_DISTANCE = -1.0;
+    private static final UUID FIRST_PAGE_MAINTAINER_ID = new UUID(0L, 0L);
+    // Keyset position that sorts after every real job, used when no cursor is supplied
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID FIRST_PAGE_ID = new UUID(-1L, -1L);
 
     @Override
     @Transactional(readOnly = true)
-    public List<MaintainerDto> findNearbyMaintainers(double latitude, double longitude, double radiusInMeters) {
-        log.info("Searching for maintainers near ({}, {}) within {} meters", latitude, longitude, radiusInMeters);
+    public CursorPage<MaintainerDto> findNearbyMaintainers(double latitude, double longitude, double radiusInMeters,
+                                                           String cursor, int limit) {
+        log.info("Searching for maintainers near ({}, {}) within {} meters (cursor={}, limit={})",
+                latitude, longitude, radiusInMeters, cursor, limit);
+
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1.");
+        }
+        int pageSize = Math.min(limit, MAX_NEARBY_PAGE_SIZE);
+
+        // --- Decode Cursor ---
+        double afterDistance = FIRST_PAGE_DISTANCE;
+        UUID afterId = FIRST_PAGE_MAINTAINER_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                afterDistance = Double.parseDouble(parts[0]);
+                afterId = UUID.fromString(parts[1]);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid pagination cursor.");
+            }
+        }
 
-        Point searchCenter = geometryFactory.createPoint(new Coordinate(longitude, latitude));
+        // Fetch one extra row to know whether another page exists
+        List<MaintainerDto> maintainers;
+        NearbySearchMode mode = spatialIndex.getMode();
+        if (mode == NearbySearchMode.MEMORY && spatialIndex.isReady()) {
+            maintainers = spatialIndex.findNearestAvailable(latitude, longitude, radiusInMeters, afterDistance, afterId, pageSize + 1);
+        } else if (mode != NearbySearchMode.COMPARE && nearbySearchCache.covers(radiusInMeters)) {
+            // Searches from the same neighbourhood share one candidate query per cell and radius bucket
+            maintainers = nearbySearchCache.findNearestAvailable(latitude, longitude, radiusInMeters, afterDistance, afterId, pageSize + 1,
+                    (centerLat, centerLon, candidateRadius) -> maintainerRepository
+                            .findAvailableMaintainersWithinRadius(geometryFactory.createPoint(new Coordinate(centerLon, centerLat)), candidateRadius)
+                            .stream()
+                            .map(MaintainerDto::fromEntity)
+                            .collect(Collectors.toList()));
+        } else {
+            Point searchCenter = geometryFactory.createPoint(new Coordinate(longitude, latitude));
+            maintainers = maintainerRepository.findNearestAvailable(searchCenter, radiusInMeters, afterDistance, afterId, pageSize + 1)
+                    .stream()
+                    .map(MaintainerDto::fromNearby)
+                    .collect(Collectors.toList());
+        }
 
-        return maintainerRepository.findAvailableMaintainersWithinRadius(searchCenter, radiusInMeters)
-                .stream()
-                .map(MaintainerDto::fromEntity)
-                .collect(Collectors.toList());
+        if (mode == NearbySearchMode.COMPARE && spatialIndex.isReady()) {
+            compareWithIndex(maintainers, latitude, longitude, radiusInMeters, afterDistance, afterId, pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (maintainers.size() > pageSize) {
+            maintainers = maintainers.subList(0, pageSize);
+            MaintainerDto last = maintainers.get(maintainers.size() - 1);
+            nextCursor = CursorCodec.encode(Double.toString(last.getDistanceInMeters()), last.getId().toString());
+        }
+
+        return CursorPage.<MaintainerDto>builder()
+                .items(maintainers)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Override
     @Transactional
     public JobDto createJob(MatchRequestDto request, UUID userId) {
-        Maintainer maintainer = maintainerRepository.findById(request.getMaintainerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Maintainer not found with ID: " + request.getMaintainerId()));
-
-        // --- Availability Check ---
-        if (!maintainer.isAvailable() || maintainer.getActiveJobs() >= maintainer.getCapacity()) {
+        // --- Reserve Capacity (atomic check-and-increment) ---
+        if (maintainerRepository.tryReserveCapacity(request.getMaintainerId()) == 0) {
+            if (!maintainerRepository.existsById(request.getMaintainerId())) {
+                throw new ResourceNotFoundException("Maintainer not found with ID: " + request.getMaintainerId());
+            }
             throw new BadRequestException("Maintainer is currently not available for new jobs.");
         }
 
-        // --- Update Maintainer State ---
-        maintainer.setActiveJobs(maintainer.getActiveJobs() + 1);
-        maintainerRepository.save(maintainer);
+        Maintainer maintainer = maintainerRepository.findById(request.getMaintainerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Maintainer not found with ID: " + request.getMaintainerId()));
+        spatialIndex.upsertAfterCommit(maintainer);
+        nearbySearchCache.invalidateAfterCommit(maintainer.getLocation());
 
         // --- Create and Save the Job ---
         Point userLocation = geometryFactory.createPoint(new Coordinate(request.getLongitude(), request.getLatitude()));
@@ -103,30 +182,60 @@ public class MatchingServiceImpl implements MatchingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<JobDto> getMyJobs(UUID userId, String role) {
-        log.info("Fetching jobs for user {} with role {}", userId, role);
+    public CursorPage<JobDto> getMyJobs(UUID userId, String role, JobStatus status, String cursor, int size) {
+        log.info("Fetching jobs for user {} with role {} (status={}, cursor={}, size={})", userId, role, status, cursor, size);
+
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1.");
+        }
+        int pageSize = Math.min(size, MAX_JOB_PAGE_SIZE);
+
+        // --- Decode Cursor ---
+        LocalDateTime beforeCreatedAt = FIRST_PAGE_CREATED_AT;
+        UUID beforeId = FIRST_PAGE_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                beforeCreatedAt = LocalDateTime.parse(parts[0]);
+                beforeId = UUID.fromString(parts[1]);
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new BadRequestException("Invalid pagination cursor.");
+            }
+        }
 
-        List<Job> jobs;
+        // Fetch one extra row to know whether another page exists
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<JobSummary> jobs;
         if ("MAINTAINER".equalsIgnoreCase(role)) {
             // Find the maintainer profile associated with this user ID
             Maintainer maintainer = maintainerRepository.findByUserId(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("Maintainer profile not found for user ID: " + userId));
             // Find jobs by the maintainer profile ID
-            jobs = jobRepository.findByMaintainerId(maintainer.getId());
+            jobs = jobRepository.findPageByMaintainerId(maintainer.getId(), status, beforeCreatedAt, beforeId, limit);
         } else if ("USER".equalsIgnoreCase(role)) {
-            jobs = jobRepository.findByUserId(userId);
+            jobs = jobRepository.findPageByUserId(userId, status, beforeCreatedAt, beforeId, limit);
         } else {
             log.warn("Attempted to fetch jobs for user {} with unknown role {}", userId, role);
-            return Collections.emptyList();
+            return CursorPage.<JobDto>builder().items(Collections.emptyList()).build();
         }
 
         if (jobs.isEmpty()) {
-            return Collections.emptyList();
+            return CursorPage.<JobDto>builder().items(Collections.emptyList()).build();
         }
 
-        return jobs.stream()
-                .map(this::buildJobDto)
-                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (jobs.size() > pageSize) {
+            jobs = jobs.subList(0, pageSize);
+            JobSummary last = jobs.get(jobs.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt().toString(), last.getId().toString());
+        }
+
+        List<JobDto> items = buildJobDtos(jobs);
+
+        return CursorPage.<JobDto>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Override
@@ -153,20 +262,28 @@ public class MatchingServiceImpl implements MatchingService {
             throw new BadRequestException("Job is not in an active state and cannot be terminated.");
         }
 
-        // --- Update Job Status ---
+        // --- Update Job Status (atomic ACTIVE -> terminal transition) ---
+        JobStatus newStatus;
         if (isCancelled) {
             // Determine who cancelled it
-            job.setStatus(userId.equals(job.getUserId()) ? JobStatus.CANCELLED_BY_USER : JobStatus.CANCELLED_BY_MAINTAINER);
+            newStatus = userId.equals(job.getUserId()) ? JobStatus.CANCELLED_BY_USER : JobStatus.CANCELLED_BY_MAINTAINER;
         } else {
-            job.setStatus(JobStatus.COMPLETED);
+            newStatus = JobStatus.COMPLETED;
         }
-        job.setCompletedAt(LocalDateTime.now());
-        Job updatedJob = jobRepository.save(job);
-
-        // A spot has freed up, so decrement the active job count and make them available again.
-        maintainer.setActiveJobs(Math.max(0, maintainer.getActiveJobs() - 1));
-        maintainerRepository.save(maintainer);
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (jobRepository.terminateIfActive(jobId, newStatus, completedAt) == 0) {
+            // Another request terminated the job between our read and the update
+            throw new BadRequestException("Job is not in an active state and cannot be terminated.");
+        }
+        Job updatedJob = job;
+        updatedJob.setStatus(newStatus);
+        updatedJob.setCompletedAt(completedAt);
 
+        // A spot has freed up, so release one unit of capacity.
+        maintainerRepository.releaseCapacity(maintainer.getId());
+        maintainer = maintainerRepository.findById(maintainer.getId()).orElse(maintainer);
+        spatialIndex.upsertAfterCommit(maintainer);
+        nearbySearchCache.invalidateAfterCommit(maintainer.getLocation());
 
         log.info("Job {} has been terminated with status {}. Maintainer {} now has {} active jobs.",
                 updatedJob.getId(), updatedJob.getStatus(), maintainer.getId(), maintainer.getActiveJobs());
@@ -206,6 +323,7 @@ public class MatchingServiceImpl implements MatchingService {
 
         Maintainer maintainer = maintainerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Maintainer profile not found for user: " + userId));
+        Point previousLocation = maintainer.getLocation();
 
         // Update Name if provided
         if (request.getName() != null) {
@@ -234,81 +352,137 @@ public class MatchingServiceImpl implements MatchingService {
         if (request.getLatitude() != null && request.getLongitude() != null) {
             Point newLocation = geometryFactory.createPoint(new Coordinate(request.getLongitude(), request.getLatitude()));
             maintainer.setLocation(newLocation);
+            maintainer.setLocationUpdatedAt(LocalDateTime.now());
         }
 
         Maintainer updatedMaintainer = maintainerRepository.save(maintainer);
+        spatialIndex.upsertAfterCommit(updatedMaintainer);
+        nearbySearchCache.invalidateAfterCommit(previousLocation, updatedMaintainer.getLocation());
         log.info("Maintainer profile updated successfully.");
 
         return MaintainerDto.fromEntity(updatedMaintainer);
     }
 
     /**
-     * Helper method to build a rich JobDto by fetching user details from the auth service.
+     * Runs the same page against the in-memory index and logs any maintainers the two paths disagree on.
+     * The index measures on a sphere and PostGIS on the WGS 84 spheroid, so maintainers within
+     * {@link MaintainerSpatialIndex#SPHEROID_TOLERANCE} of the radius can legitimately land on
+     * either side; mismatches made up only of those are logged at debug rather than as warnings.
      */
-    private JobDto buildJobDto(Job job) {
-        // Fetch details for both the user and the maintainer's user account
-        UserDto user = authClient.getUserById(job.getUserId());
+    private void compareWithIndex(List<MaintainerDto> databaseResult, double latitude, double longitude, double radiusInMeters,
+                                  double afterDistance, UUID afterId, int limit) {
+        List<MaintainerDto> indexResult = spatialIndex.findNearestAvailable(latitude, longitude, radiusInMeters, afterDistance, afterId, limit);
+        Map<UUID, Double> fromDatabase = databaseResult.stream()
+                .collect(Collectors.toMap(MaintainerDto::getId, MaintainerDto::getDistanceInMeters));
+        Map<UUID, Double> fromIndex = indexResult.stream()
+                .collect(Collectors.toMap(MaintainerDto::getId, MaintainerDto::getDistanceInMeters));
+
+        if (fromDatabase.keySet().equals(fromIndex.keySet())) {
+            log.debug("Nearby search comparison matched ({} maintainers)", fromDatabase.size());
+            return;
+        }
 
-        // Find the maintainer profile to get their associated userId
-        Maintainer maintainerProfile = maintainerRepository.findById(job.getMaintainerId()).orElseThrow();
-        UserDto maintainerUser = authClient.getUserById(maintainerProfile.getUserId());
+        Map<UUID, Double> onlyInDatabase = new HashMap<>(fromDatabase);
+        onlyInDatabase.keySet().removeAll(fromIndex.keySet());
+        Map<UUID, Double> onlyInIndex = new HashMap<>(fromIndex);
+        onlyInIndex.keySet().removeAll(fromDatabase.keySet());
+
+        double boundary = radiusInMeters * (1 - MaintainerSpatialIndex.SPHEROID_TOLERANCE);
+        boolean onlyAtBoundary = onlyInDatabase.values().stream().allMatch(d -> d >= boundary)
+                && onlyInIndex.values().stream().allMatch(d -> d >= boundary);
+        if (onlyAtBoundary) {
+            log.debug("Nearby search differs only at the radius boundary at ({}, {}) r={}m: only in database {}, only in index {}",
+                    latitude, longitude, radiusInMeters, onlyInDatabase.keySet(), onlyInIndex.keySet());
+            return;
+        }
+        log.warn("Nearby search mismatch at ({}, {}) r={}m: only in database {}, only in index {}",
+                latitude, longitude, radiusInMeters, onlyInDatabase.keySet(), onlyInIndex.keySet());
+    }
 
-        JobDto.ParticipantDto userParticipant = JobDto.ParticipantDto.builder()
-                .id(user.getId())
-                .name(user.getFirstName() + " " + user.getLastName())
-                .phoneNumber(user.getPhoneNumber())
-                .build();
+    /**
+     * Builds a JobDto for a single job.
+     */
+    private JobDto buildJobDto(Job job) {
+        return buildJobDtos(List.of(JobSummary.from(job))).get(0);
+    }
 
-        JobDto.ParticipantDto maintainerParticipant = JobDto.ParticipantDto.builder()
-                .id(maintainerUser.getId())
-                .name(maintainerUser.getFirstName() + " " + maintainerUser.getLastName())
-                .phoneNumber(maintainerUser.getPhoneNumber())
-                .build();
+    /**
+     * Helper method to build rich JobDtos, resolving both participants of every job with one
+     * local join. Participants the read model has no row for yet are looked up in auth if the
+     * fallback is enabled, and are otherwise returned with only their ID.
+     */
+    private List<JobDto> buildJobDtos(List<JobSummary> jobs) {
+        Map<UUID, JobParticipants> participantsByJob = participantRepository
+                .findByJobIds(jobs.stream().map(JobSummary::getId).toList()).stream()
+                .collect(Collectors.toMap(JobParticipants::getJobId, p -> p));
+
+        Set<UUID> missing = new HashSet<>();
+        participantsByJob.values().forEach(p -> {
+            if (p.getUser() == null) {
+                missing.add(p.getUserId());
+            }
+            if (p.getMaintainer() == null) {
+                missing.add(p.getMaintainerUserId());
+            }
+        });
+        Map<UUID, UserDto> fallback = missing.isEmpty() || !participantAuthFallback
+                ? Map.of()
+                : participantResolver.resolve(missing);
 
-        return JobDto.builder()
-                .id(job.getId())
-                .status(job.getStatus())
-                .problemDescription(job.getProblemDescription())
-                .createdAt(job.getCreatedAt())
-                .completedAt(job.getCompletedAt())
-                .user(userParticipant)
-                .maintainer(maintainerParticipant)
-                .build();
+        return jobs.stream()
+                .map(job -> {
+                    JobParticipants participants = participantsByJob.get(job.getId());
+                    if (participants == null) {
+                        // The job's maintainer profile no longer exists
+                        return JobDto.from(job, toParticipant(job.getUserId(), null, fallback), null);
+                    }
+                    return JobDto.from(job,
+                            toParticipant(participants.getUserId(), participants.getUser(), fallback),
+                            toParticipant(participants.getMaintainerUserId(), participants.getMaintainer(), fallback));
+                })
+                .collect(Collectors.toList());
+    }
+
+    private JobDto.ParticipantDto toParticipant(UUID userId, Participant participant, Map<UUID, UserDto> fallback) {
+        if (participant != null) {
+            return JobDto.ParticipantDto.from(userId, participant);
+        }
+        UserDto user = fallback.get(userId);
+        if (user == null) {
+            log.warn("User details for {} could not be resolved", userId);
+        }
+        return JobDto.ParticipantDto.from(userId, user);
     }
 
     /**
      * Private helper method to encapsulate the notification sending logic.
+     * Events are queued in the outbox and only published once the surrounding transaction commits.
      */
     private void sendNotification(UUID recipientId, String subject, String textMessage, String template, Map<String, Object> vars, Set<NotificationChannel> channels) {
-        try {
-            String idStr = recipientId.toString();
-
-            // 1. In-App Notification
-            if (channels.contains(NotificationChannel.IN_APP)) {
-                NotificationEvent inAppEvent = NotificationEvent.builder()
-                        .eventId(UUID.randomUUID())
-                        .recipientId(idStr)
-                        .channel(NotificationChannel.IN_APP)
-                        .message(textMessage)
-                        .build();
-                kafkaTemplate.send(notificationTopic, idStr, inAppEvent);
-            }
-
-            // 2. Email Notification
-            if (channels.contains(NotificationChannel.EMAIL)) {
-                NotificationEvent emailEvent = NotificationEvent.builder()
-                        .eventId(UUID.randomUUID())
-                        .recipientId(idStr)
-                        .channel(NotificationChannel.EMAIL)
-                        .subject(subject)
-                        .template(template)
-                        .variables(vars)
-                        .build();
-                kafkaTemplate.send(notificationTopic, idStr, emailEvent);
-            }
+        String idStr = recipientId.toString();
+
+        // 1. In-App Notification
+        if (channels.contains(NotificationChannel.IN_APP)) {
+            NotificationEvent inAppEvent = NotificationEvent.builder()
+                    .eventId(UuidV7.generate())
+                    .recipientId(idStr)
+                    .channel(NotificationChannel.IN_APP)
+                    .message(textMessage)
+                    .build();
+            outboxPublisher.enqueue(notificationTopic, idStr, inAppEvent);
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to send notification to user {}", recipientId, e);
+        // 2. Email Notification
+        if (channels.contains(NotificationChannel.EMAIL)) {
+            NotificationEvent emailEvent = NotificationEvent.builder()
+                    .eventId(UuidV7.generate())
+                    .recipientId(idStr)
+                    .channel(NotificationChannel.EMAIL)
+                    .subject(subject)
+                    .template(template)
+                    .variables(vars)
+                    .build();
+            outboxPublisher.enqueue(notificationTopic, idStr, emailEvent);
         }
     }
 }
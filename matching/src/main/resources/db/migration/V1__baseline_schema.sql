@@ -0,0 +1,42 @@
+-- The schema Hibernate generates from the entities, so a fresh database exists before the
+-- index migrations run. Existing databases are baselined at this version and skip it.
+CREATE EXTENSION IF NOT EXISTS postgis;
+
+CREATE TABLE IF NOT EXISTS maintainers (
+    id           uuid PRIMARY KEY,
+    user_id      uuid         NOT NULL UNIQUE,
+    name         varchar(255) NOT NULL,
+    is_available boolean      NOT NULL,
+    location     geometry(Point, 4326),
+    capacity     integer      NOT NULL,
+    active_jobs  integer      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id                  uuid PRIMARY KEY,
+    user_id             uuid                  NOT NULL,
+    maintainer_id       uuid                  NOT NULL,
+    status              varchar(255)          NOT NULL,
+    problem_description varchar(255)          NOT NULL,
+    user_location       geometry(Point, 4326) NOT NULL,
+    created_at          timestamp(6)          NOT NULL,
+    completed_at        timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic       varchar(255) NOT NULL,
+    message_key varchar(255) NOT NULL,
+    payload     bytea        NOT NULL,
+    attempts    integer      NOT NULL,
+    last_error  varchar(255),
+    created_at  timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS participants (
+    user_id      uuid PRIMARY KEY,
+    first_name   varchar(255),
+    last_name    varchar(255),
+    phone_number varchar(255),
+    updated_at   timestamp(6) NOT NULL
+);
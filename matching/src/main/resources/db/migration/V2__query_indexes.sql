@@ -0,0 +1,18 @@
+-- Built CONCURRENTLY so existing tables stay writable; see the .conf file next to this one
+-- and spring.flyway.postgresql.transactional-lock in application.yaml.
+
+-- Nearby search. The expression and predicate match MaintainerRepository's query exactly
+-- (CAST(location AS geography), is_available = true AND active_jobs < capacity); the
+-- planner only uses the index when both do. Busy and unavailable maintainers are left out,
+-- which keeps the index small and its rows the ones a search can return.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_maintainers_available_location
+    ON maintainers USING gist ((location::geography))
+    WHERE is_available = true AND active_jobs < capacity;
+
+-- A customer's job history, newest first (JobRepository.findPageByUserId keyset order).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_user_created
+    ON jobs (user_id, created_at DESC, id DESC);
+
+-- A maintainer's jobs, optionally filtered by status.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_maintainer_status
+    ON jobs (maintainer_id, status);
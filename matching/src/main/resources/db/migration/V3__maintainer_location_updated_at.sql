@@ -0,0 +1,2 @@
+-- Lets streamed location updates from several instances keep only the newest position.
+ALTER TABLE maintainers ADD COLUMN IF NOT EXISTS location_updated_at timestamp(6);
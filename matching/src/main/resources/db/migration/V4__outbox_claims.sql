@@ -0,0 +1,2 @@
+-- Lets the relay claim a batch in one short transaction and send it without holding one.
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_until timestamp(6);
@@ -23,6 +23,7 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
         registry.add("spring.datasource.username", postgresContainer::getUsername);
         registry.add("spring.datasource.password", postgresContainer::getPassword);
-        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // Flyway builds the schema and its indexes; create-drop would recreate the tables without them
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
     }
 }
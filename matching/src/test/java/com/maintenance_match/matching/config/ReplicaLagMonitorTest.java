@@ -0,0 +1,70 @@
+package com.maintenance_match.matching.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private HikariDataSource replica;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica), new SimpleMeterRegistry(), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void checkLag_shouldUseAReplicaWithinTheLimit() throws Exception {
+        // Given
+        when(resultSet.getDouble(1)).thenReturn(1.5);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        // When
+        lagMonitor.checkLag();
+
+        // Then
+        assertThat(lagMonitor.isUsable("replica-0")).isTrue();
+    }
+
+    @Test
+    void checkLag_shouldSkipAReplicaWhoseWalReceiverIsNotStreaming() throws Exception {
+        // Given: usable after an earlier check, then the query reports no streaming receiver
+        when(resultSet.getDouble(1)).thenReturn(0.0);
+        when(resultSet.wasNull()).thenReturn(false, true);
+        lagMonitor.checkLag();
+
+        // When
+        lagMonitor.checkLag();
+
+        // Then
+        assertThat(lagMonitor.isUsable("replica-0")).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+package com.maintenance_match.matching.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", mock(HikariDataSource.class));
+        replicas.put("replica-1", mock(HikariDataSource.class));
+        when(lagMonitor.getReplicas()).thenReturn(replicas);
+        lenient().when(lagMonitor.isUsable("replica-0")).thenReturn(true);
+        lenient().when(lagMonitor.isUsable("replica-1")).thenReturn(true);
+        routing = new ReplicaRoutingDataSource(lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writeTransaction_shouldUsePrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // When / Then
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldRoundRobinOverReplicas() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When / Then
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldSkipLaggingReplica() {
+        // Given: replica-0 is behind
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isUsable("replica-0")).thenReturn(false);
+
+        // When / Then
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimaryWhenNoReplicaIsUsable() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isUsable("replica-0")).thenReturn(false);
+        when(lagMonitor.isUsable("replica-1")).thenReturn(false);
+
+        // When / Then
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void onPrimary_shouldRouteReadsToPrimaryOnlyInsideTheBlock() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object inside = ReplicaRoutingDataSource.onPrimary(routing::determineCurrentLookupKey);
+
+        // Then
+        assertThat(inside).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routing.determineCurrentLookupKey()).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
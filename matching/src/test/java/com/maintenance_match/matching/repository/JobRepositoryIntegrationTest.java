@@ -4,11 +4,15 @@ import com.maintenance_match.matching.AbstractIntegrationTest;
 import com.maintenance_match.matching.TestUtils;
 import com.maintenance_match.matching.model.Job;
 import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.model.JobSummary;
 import com.maintenance_match.matching.model.Maintainer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -131,4 +135,41 @@ public class JobRepositoryIntegrationTest extends AbstractIntegrationTest {
         // Then: Should find none
         assertThat(cancelledJobsForMaintainer2).isEmpty();
     }
+
+    @Test
+    void findPageByUserId_shouldWalkAllJobsNewestFirstWithoutDuplicates() {
+        // Given: a cursor positioned before every job
+        LocalDateTime beforeCreatedAt = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        UUID beforeId = new UUID(-1L, -1L);
+        List<String> seen = new ArrayList<>();
+
+        // When: Page through User 1's jobs one at a time
+        for (int i = 0; i < 3; i++) {
+            List<JobSummary> page = jobRepository.findPageByUserId(
+                    testUserId1, null, beforeCreatedAt, beforeId, PageRequest.of(0, 1));
+            if (page.isEmpty()) {
+                break;
+            }
+            JobSummary last = page.get(page.size() - 1);
+            seen.add(last.getProblemDescription());
+            beforeCreatedAt = last.getCreatedAt();
+            beforeId = last.getId();
+        }
+
+        // Then: Both jobs are returned exactly once
+        assertThat(seen).containsExactlyInAnyOrder("Job 1", "Job 2");
+    }
+
+    @Test
+    void findPageByMaintainerId_withStatusFilter_shouldReturnOnlyMatchingJobs() {
+        // When: Find ACTIVE jobs for Maintainer 1
+        List<JobSummary> page = jobRepository.findPageByMaintainerId(testMaintainer1.getId(), JobStatus.ACTIVE,
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59), new UUID(-1L, -1L), PageRequest.of(0, 10));
+
+        // Then: Should find Job 1 and Job 3, ordered newest first
+        assertThat(page)
+                .extracting(JobSummary::getProblemDescription)
+                .containsExactlyInAnyOrder("Job 1", "Job 3");
+        assertThat(page.get(0).getCreatedAt()).isAfterOrEqualTo(page.get(1).getCreatedAt());
+    }
 }
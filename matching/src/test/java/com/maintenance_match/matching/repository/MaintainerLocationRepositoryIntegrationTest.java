@@ -0,0 +1,100 @@
+package com.maintenance_match.matching.repository;
+
+import com.maintenance_match.matching.AbstractIntegrationTest;
+import com.maintenance_match.matching.TestUtils;
+import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.repository.MaintainerLocationRepository.LocationUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaintainerLocationRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MaintainerLocationRepository locationRepository;
+
+    @Autowired
+    private MaintainerRepository maintainerRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private Maintainer first;
+    private Maintainer second;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        maintainerRepository.deleteAll();
+        first = maintainerRepository.save(Maintainer.builder()
+                .name("First").userId(UUID.randomUUID()).isAvailable(true)
+                .location(TestUtils.createPoint(38.70, 9.00)).build());
+        second = maintainerRepository.save(Maintainer.builder()
+                .name("Second").userId(UUID.randomUUID()).isAvailable(true)
+                .location(TestUtils.createPoint(38.70, 9.00))
+                .locationUpdatedAt(LocalDateTime.now().plusMinutes(5)).build());
+    }
+
+    @Test
+    void updateLocations_shouldMoveEveryMaintainerInOneStatementUnlessItsPositionIsNewer() {
+        // When
+        LocalDateTime now = LocalDateTime.now();
+        List<Maintainer> moved = locationRepository.updateLocations(List.of(
+                new LocationUpdate(first.getUserId(), 9.03, 38.75, now),
+                new LocationUpdate(second.getUserId(), 9.03, 38.75, now),
+                new LocationUpdate(UUID.randomUUID(), 9.03, 38.75, now)));
+
+        // Then: only the first maintainer; the second already has a newer position
+        assertThat(moved).extracting(Maintainer::getId).containsExactly(first.getId());
+        assertThat(maintainerRepository.findById(first.getId())).get()
+                .satisfies(m -> {
+                    assertThat(m.getLocation().getY()).isEqualTo(9.03);
+                    assertThat(m.getLocation().getX()).isEqualTo(38.75);
+                });
+        assertThat(maintainerRepository.findById(second.getId())).get()
+                .satisfies(m -> assertThat(m.getLocation().getY()).isEqualTo(9.00));
+    }
+
+    @Test
+    void updateLocations_shouldNotDeadlockWhenOverlappingBatchesArriveInOppositeOrders() throws Exception {
+        // Given
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            userIds.add(maintainerRepository.save(Maintainer.builder()
+                    .name("Maintainer " + i).userId(UUID.randomUUID()).isAvailable(true)
+                    .location(TestUtils.createPoint(38.70, 9.00)).build()).getUserId());
+        }
+        List<UUID> reversed = new ArrayList<>(userIds);
+        Collections.reverse(reversed);
+
+        // When: both batches touch every row, one in each order
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                LocalDateTime now = LocalDateTime.now();
+                Future<List<Maintainer>> forward = executor.submit(() -> locationRepository.updateLocations(
+                        userIds.stream().map(id -> new LocationUpdate(id, 9.01, 38.71, now)).toList()));
+                Future<List<Maintainer>> backward = executor.submit(() -> locationRepository.updateLocations(
+                        reversed.stream().map(id -> new LocationUpdate(id, 9.02, 38.72, now.plusNanos(1000))).toList()));
+
+                // Then: neither statement is chosen as a deadlock victim
+                forward.get(30, TimeUnit.SECONDS);
+                backward.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
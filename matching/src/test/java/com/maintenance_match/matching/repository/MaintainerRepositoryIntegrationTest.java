@@ -8,9 +8,12 @@ import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -168,4 +171,63 @@ public class MaintainerRepositoryIntegrationTest extends AbstractIntegrationTest
         // --- Then ---
         assertThat(foundMaintainers).isEmpty();
     }
+
+    @Test
+    void tryReserveCapacity_underConcurrentRequests_shouldNeverOverbook() throws Exception {
+        // --- Given ---
+        int capacity = 5;
+        int concurrentRequests = 200;
+        Maintainer maintainer = maintainerRepository.save(Maintainer.builder()
+                .name("Contended Garage")
+                .userId(UUID.randomUUID())
+                .isAvailable(true)
+                .location(TestUtils.createPoint(38.7630, 9.0270))
+                .capacity(capacity)
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // --- When ---
+        for (int i = 0; i < concurrentRequests; i++) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                reserved.addAndGet(maintainerRepository.tryReserveCapacity(maintainer.getId()));
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // --- Then ---
+        assertThat(reserved.get()).isEqualTo(capacity);
+        assertThat(maintainerRepository.findById(maintainer.getId()).orElseThrow().getActiveJobs()).isEqualTo(capacity);
+    }
+
+    @Test
+    void releaseCapacity_shouldNeverGoBelowZero() {
+        // --- Given ---
+        Maintainer maintainer = maintainerRepository.save(Maintainer.builder()
+                .name("Idle Garage")
+                .userId(UUID.randomUUID())
+                .isAvailable(true)
+                .capacity(1)
+                .build());
+
+        // --- When ---
+        int reserved = maintainerRepository.tryReserveCapacity(maintainer.getId());
+        int firstRelease = maintainerRepository.releaseCapacity(maintainer.getId());
+        int secondRelease = maintainerRepository.releaseCapacity(maintainer.getId());
+
+        // --- Then ---
+        assertThat(reserved).isEqualTo(1);
+        assertThat(firstRelease).isEqualTo(1);
+        assertThat(secondRelease).isZero();
+        assertThat(maintainerRepository.findById(maintainer.getId()).orElseThrow().getActiveJobs()).isZero();
+    }
 }
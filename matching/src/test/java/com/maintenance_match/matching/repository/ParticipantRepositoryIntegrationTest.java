@@ -0,0 +1,99 @@
+package com.maintenance_match.matching.repository;
+
+import com.maintenance_match.matching.AbstractIntegrationTest;
+import com.maintenance_match.matching.TestUtils;
+import com.maintenance_match.matching.model.Job;
+import com.maintenance_match.matching.model.JobParticipants;
+import com.maintenance_match.matching.model.JobStatus;
+import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.model.Participant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParticipantRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MaintainerRepository maintainerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID customerId;
+    private Maintainer maintainer;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        maintainerRepository.deleteAll();
+        participantRepository.deleteAll();
+
+        customerId = UUID.randomUUID();
+        maintainer = maintainerRepository.save(Maintainer.builder()
+                .name("Maintainer One")
+                .userId(UUID.randomUUID())
+                .isAvailable(true)
+                .build());
+        job = jobRepository.save(Job.builder()
+                .userId(customerId).maintainerId(maintainer.getId()).status(JobStatus.ACTIVE)
+                .problemDescription("Job 1").userLocation(TestUtils.createPoint(1, 1)).build());
+    }
+
+    @Test
+    void findByJobIds_shouldJoinBothParticipantsAndLeaveMissingOnesNull() {
+        // Given: only the customer has a participant row
+        participantRepository.upsert(customerId, "Alice", "Test", "+251900000001", LocalDateTime.now());
+
+        // When
+        List<JobParticipants> rows = participantRepository.findByJobIds(List.of(job.getId()));
+
+        // Then
+        assertThat(rows).hasSize(1);
+        JobParticipants row = rows.get(0);
+        assertThat(row.getUserId()).isEqualTo(customerId);
+        assertThat(row.getMaintainerUserId()).isEqualTo(maintainer.getUserId());
+        assertThat(row.getUser().getFirstName()).isEqualTo("Alice");
+        assertThat(row.getMaintainer()).isNull();
+    }
+
+    @Test
+    void insertIfAbsent_shouldNotOverwriteAnEventWrittenRow() {
+        // Given: an event has already written the current name
+        participantRepository.upsert(customerId, "Alice", "Renamed", null, LocalDateTime.now());
+
+        // When: the backfill arrives with an older snapshot
+        Integer inserted = transactionTemplate.execute(status ->
+                participantRepository.insertIfAbsent(customerId, "Alice", "Test", null, LocalDateTime.now()));
+
+        // Then
+        assertThat(inserted).isZero();
+        assertThat(participantRepository.findById(customerId)).get()
+                .extracting(Participant::getLastName).isEqualTo("Renamed");
+    }
+
+    @Test
+    void findMissingUserIds_shouldReturnReferencedUsersWithoutRows() {
+        // Given
+        participantRepository.upsert(customerId, "Alice", "Test", null, LocalDateTime.now());
+
+        // When
+        List<UUID> missing = participantRepository.findMissingUserIds(new UUID(0L, 0L), 100);
+
+        // Then
+        assertThat(missing).containsExactly(maintainer.getUserId());
+    }
+}
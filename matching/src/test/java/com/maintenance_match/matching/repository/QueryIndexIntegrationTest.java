@@ -0,0 +1,163 @@
+package com.maintenance_match.matching.repository;
+
+import com.maintenance_match.matching.AbstractIntegrationTest;
+import com.maintenance_match.matching.model.JobStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexes from the Flyway migrations against query changes that would stop the
+ * planner from using them (a different cast, a predicate that no longer implies the partial
+ * index's, a changed sort order). Sequential scans are disabled so the result does not depend
+ * on table size: a plan only falls back to one when no index can answer the query.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.maintenance_match.matching.repository.QueryIndexIntegrationTest$CapturingStatementInspector")
+public class QueryIndexIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM jobs");
+            statement.execute("DELETE FROM maintainers");
+            statement.execute("INSERT INTO maintainers (id, user_id, name, is_available, location, capacity, active_jobs) " +
+                    "SELECT gen_random_uuid(), gen_random_uuid(), 'Maintainer ' || i, i % 5 <> 0, " +
+                    "ST_SetSRID(ST_MakePoint(38.6 + random() * 0.4, 8.8 + random() * 0.4), 4326), 2, i % 3 " +
+                    "FROM generate_series(1, 2000) AS i");
+            statement.execute("INSERT INTO jobs (id, user_id, maintainer_id, status, problem_description, user_location, created_at) " +
+                    "SELECT gen_random_uuid(), ('00000000-0000-0000-0000-' || lpad((i % 50)::text, 12, '0'))::uuid, " +
+                    "(SELECT id FROM maintainers LIMIT 1), CASE WHEN i % 4 = 0 THEN 'ACTIVE' ELSE 'COMPLETED' END, " +
+                    "'Job ' || i, ST_SetSRID(ST_MakePoint(38.7, 9.0), 4326), now() - i * interval '1 minute' " +
+                    "FROM generate_series(1, 2000) AS i");
+            statement.execute("ANALYZE maintainers");
+            statement.execute("ANALYZE jobs");
+        }
+    }
+
+    @Test
+    void nearbySearch_shouldUseThePartialGeographyIndex() throws Exception {
+        String query = MaintainerRepository.class
+                .getMethod("findAvailableMaintainersWithinRadius", Point.class, double.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replace(":point", "ST_SetSRID(ST_MakePoint(38.75, 9.03), 4326)")
+                .replace(":radius", "5000");
+
+        assertThat(explain(query)).contains("idx_maintainers_available_location");
+    }
+
+    @Test
+    void rankedNearbySearch_shouldUseThePartialGeographyIndex() throws Exception {
+        String query = MaintainerRepository.class
+                .getMethod("findNearestAvailable", Point.class, double.class, double.class, UUID.class, int.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replace(":point", "ST_SetSRID(ST_MakePoint(38.75, 9.03), 4326)")
+                .replace(":radius", "50000")
+                .replace(":afterDistance", "-1")
+                .replace(":afterId", "'00000000-0000-0000-0000-000000000000'")
+                .replace(":limit", "21");
+
+        assertThat(explain(query)).contains("idx_maintainers_available_location");
+    }
+
+    @Test
+    void userJobPage_shouldUseTheUserCreatedIndex() throws SQLException {
+        for (JobStatus status : new JobStatus[]{null, JobStatus.COMPLETED}) {
+            // Given: the SQL Hibernate generates for JobRepository.findPageByUserId
+            CapturingStatementInspector.CAPTURED.clear();
+            jobRepository.findPageByUserId(UUID.fromString("00000000-0000-0000-0000-000000000007"), status,
+                    LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+                    UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"), PageRequest.of(0, 21));
+            String sql = CapturingStatementInspector.CAPTURED.get(CapturingStatementInspector.CAPTURED.size() - 1);
+
+            // When: parameters in the order they appear; anything after them is pagination
+            String statusLiteral = status == null ? "NULL" : "'" + status.name() + "'";
+            String plan = explain(bind(sql, "'00000000-0000-0000-0000-000000000007'", statusLiteral, statusLiteral,
+                    "'9999-12-31 23:59:59'", "'9999-12-31 23:59:59'", "'ffffffff-ffff-ffff-ffff-ffffffffffff'"));
+
+            // Then: rows come out of the index in page order, so no sort is needed
+            assertThat(plan).as("status %s", status).contains("idx_jobs_user_created");
+            assertThat(plan).as("status %s", status).doesNotContain("Sort");
+        }
+    }
+
+    @Test
+    void maintainerJobsByStatus_shouldUseTheMaintainerStatusIndex() throws SQLException {
+        String query = "SELECT j.id FROM jobs j " +
+                "WHERE j.maintainer_id = (SELECT id FROM maintainers LIMIT 1) AND j.status = 'ACTIVE'";
+
+        assertThat(explain(query)).contains("idx_jobs_maintainer_status");
+    }
+
+    private String explain(String query) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery("EXPLAIN " + query)) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            } finally {
+                statement.execute("RESET enable_seqscan");
+            }
+            return plan.toString();
+        }
+    }
+
+    private static String bind(String sql, String... values) {
+        StringBuilder bound = new StringBuilder(sql.length() + 128);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c != '?') {
+                bound.append(c);
+            } else {
+                bound.append(parameter < values.length ? values[parameter] : "21");
+                parameter++;
+            }
+        }
+        assertThat(parameter).as("parameters in %s", sql).isGreaterThanOrEqualTo(values.length);
+        return bound.toString();
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares, so tests can explain what the
+     * repositories actually run.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
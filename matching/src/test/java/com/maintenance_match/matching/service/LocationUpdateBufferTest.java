@@ -0,0 +1,81 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.repository.MaintainerLocationRepository;
+import com.maintenance_match.matching.repository.MaintainerLocationRepository.LocationUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationUpdateBufferTest {
+
+    @Mock
+    private MaintainerLocationRepository locationRepository;
+
+    @Mock
+    private MaintainerSpatialIndex spatialIndex;
+
+    private LocationUpdateBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LocationUpdateBuffer(locationRepository, spatialIndex, new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteOnlyTheLatestPingPerMaintainerInBatches() {
+        // Given: three maintainers, one of them pinging three times
+        UUID moving = UUID.randomUUID();
+        buffer.record(moving, 9.01, 38.71);
+        buffer.record(moving, 9.02, 38.72);
+        buffer.record(moving, 9.03, 38.73);
+        buffer.record(UUID.randomUUID(), 8.54, 39.27);
+        buffer.record(UUID.randomUUID(), 9.60, 41.85);
+        when(locationRepository.updateLocations(anyList())).thenReturn(List.of());
+
+        // When
+        buffer.flush();
+
+        // Then: three rows in batches of at most two, with the moving maintainer's last position
+        ArgumentCaptor<List<LocationUpdate>> batches = ArgumentCaptor.forClass(List.class);
+        verify(locationRepository, times(2)).updateLocations(batches.capture());
+        List<LocationUpdate> written = batches.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(written).hasSize(3);
+        assertThat(written).filteredOn(u -> u.userId().equals(moving))
+                .singleElement()
+                .satisfies(u -> assertThat(u.latitude()).isEqualTo(9.03));
+
+        // And nothing is left for the next window
+        buffer.flush();
+        verifyNoMoreInteractions(locationRepository);
+    }
+
+    @Test
+    void flush_whenTheWriteFails_shouldKeepPositionsForTheNextWindow() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        buffer.record(userId, 9.01, 38.71);
+        when(locationRepository.updateLocations(anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of());
+
+        // When
+        buffer.flush();
+        buffer.flush();
+
+        // Then
+        verify(locationRepository, times(2)).updateLocations(anyList());
+    }
+}
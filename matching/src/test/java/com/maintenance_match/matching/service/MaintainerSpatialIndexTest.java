@@ -0,0 +1,141 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.TestUtils;
+import com.maintenance_match.matching.dto.MaintainerDto;
+import com.maintenance_match.matching.model.Maintainer;
+import com.maintenance_match.matching.repository.MaintainerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MaintainerSpatialIndexTest {
+
+    @Mock
+    private MaintainerRepository maintainerRepository;
+
+    private MaintainerSpatialIndex spatialIndex;
+
+    // St. George's Cathedral, Addis Ababa
+    private static final double CENTER_LAT = 9.0325;
+    private static final double CENTER_LON = 38.7542;
+
+    private Maintainer nearby;
+    private Maintainer busy;
+    private Maintainer farAway;
+
+    @BeforeEach
+    void setUp() {
+        spatialIndex = new MaintainerSpatialIndex(maintainerRepository, NearbySearchMode.MEMORY, 0.05);
+
+        // ~1.5 km away
+        nearby = maintainer("Nearby", 38.7639, 9.0227, true, 1, 0);
+        // ~1.5 km away but at capacity
+        busy = maintainer("Busy", 38.7445, 9.0423, true, 1, 1);
+        // Adama, ~75 km away
+        farAway = maintainer("Far Away", 39.2700, 8.5400, true, 1, 0);
+
+        when(maintainerRepository.findAll()).thenReturn(List.of(nearby, busy, farAway));
+        spatialIndex.rebuild();
+    }
+
+    @Test
+    void findAvailableWithinRadius_shouldOnlyReturnAvailableMaintainersInRange() {
+        // When
+        List<MaintainerDto> result = spatialIndex.findAvailableWithinRadius(CENTER_LAT, CENTER_LON, 5000);
+
+        // Then
+        assertThat(result).extracting(MaintainerDto::getId).containsExactly(nearby.getId());
+        assertThat(spatialIndex.isReady()).isTrue();
+        assertThat(spatialIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void upsertAfterCommit_withoutTransaction_shouldApplyImmediately() {
+        // Given: the busy maintainer frees up and the far maintainer moves into town
+        busy.setActiveJobs(0);
+        farAway.setLocation(TestUtils.createPoint(38.7600, 9.0300));
+
+        // When
+        spatialIndex.upsertAfterCommit(busy);
+        spatialIndex.upsertAfterCommit(farAway);
+
+        // Then
+        assertThat(spatialIndex.findAvailableWithinRadius(CENTER_LAT, CENTER_LON, 5000))
+                .extracting(MaintainerDto::getId)
+                .containsExactlyInAnyOrder(nearby.getId(), busy.getId(), farAway.getId());
+        assertThat(spatialIndex.findAvailableWithinRadius(8.5400, 39.2700, 5000)).isEmpty();
+    }
+
+    @Test
+    void rebuild_shouldKeepChangesCommittedWhileTheSnapshotLoads() {
+        // Given: the snapshot still shows the busy maintainer at capacity, but while it loads
+        // the maintainer frees up and the far maintainer is removed from the index
+        Maintainer staleBusy = maintainer("Busy", 38.7445, 9.0423, true, 1, 1);
+        staleBusy.setId(busy.getId());
+        when(maintainerRepository.findAll()).thenAnswer(invocation -> {
+            busy.setActiveJobs(0);
+            spatialIndex.upsertAfterCommit(busy);
+            spatialIndex.remove(farAway.getId());
+            return List.of(nearby, staleBusy, farAway);
+        });
+
+        // When
+        spatialIndex.rebuild();
+
+        // Then
+        assertThat(spatialIndex.findAvailableWithinRadius(CENTER_LAT, CENTER_LON, 5000))
+                .extracting(MaintainerDto::getId)
+                .containsExactlyInAnyOrder(nearby.getId(), busy.getId());
+        assertThat(spatialIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void findAvailableWithinRadius_withLargeRadius_shouldFallBackToFullScan() {
+        // When
+        List<MaintainerDto> result = spatialIndex.findAvailableWithinRadius(CENTER_LAT, CENTER_LON, 2_000_000);
+
+        // Then
+        assertThat(result).extracting(MaintainerDto::getId).containsExactlyInAnyOrder(nearby.getId(), farAway.getId());
+    }
+
+    @Test
+    void findNearestAvailable_shouldRankByDistanceAndContinueFromTheCursor() {
+        // When
+        List<MaintainerDto> firstPage = spatialIndex.findNearestAvailable(CENTER_LAT, CENTER_LON, 2_000_000, -1, new UUID(0L, 0L), 1);
+        MaintainerDto last = firstPage.get(0);
+        List<MaintainerDto> secondPage = spatialIndex.findNearestAvailable(CENTER_LAT, CENTER_LON, 2_000_000,
+                last.getDistanceInMeters(), last.getId(), 1);
+
+        // Then
+        assertThat(firstPage).extracting(MaintainerDto::getId).containsExactly(nearby.getId());
+        assertThat(last.getDistanceInMeters()).isBetween(1_400.0, 1_600.0);
+        assertThat(secondPage).extracting(MaintainerDto::getId).containsExactly(farAway.getId());
+    }
+
+    @Test
+    void distanceInMeters_shouldMatchKnownDistance() {
+        // One degree of latitude on the mean sphere is ~111.2 km
+        assertThat(MaintainerSpatialIndex.distanceInMeters(0, 0, 1, 0)).isBetween(111_100.0, 111_300.0);
+    }
+
+    private Maintainer maintainer(String name, double lon, double lat, boolean available, int capacity, int activeJobs) {
+        return Maintainer.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .name(name)
+                .isAvailable(available)
+                .location(TestUtils.createPoint(lon, lat))
+                .capacity(capacity)
+                .activeJobs(activeJobs)
+                .build();
+    }
+}
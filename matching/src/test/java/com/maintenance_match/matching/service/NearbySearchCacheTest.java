@@ -0,0 +1,123 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.TestUtils;
+import com.maintenance_match.matching.dto.MaintainerDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearbySearchCacheTest {
+
+    // St. George's Cathedral, Addis Ababa
+    private static final double CENTER_LAT = 9.0325;
+    private static final double CENTER_LON = 38.7542;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private NearbySearchCache nearbySearchCache;
+    private AtomicInteger loads;
+
+    private MaintainerDto close;
+    private MaintainerDto further;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearbySearchCache = new NearbySearchCache(meterRegistry, true, Duration.ofMinutes(1), 100, 6, new int[]{1000, 5000});
+        loads = new AtomicInteger();
+
+        // ~200 m and ~1.5 km from the center
+        close = maintainer("Close", 9.0340, 38.7550);
+        further = maintainer("Further", 9.0227, 38.7639);
+    }
+
+    @Test
+    void findNearestAvailable_shouldShareOneLoadAcrossNearbyCentersAndRankFromEachCenter() {
+        // When: two searches a few meters apart, in the same cell
+        List<MaintainerDto> first = search(CENTER_LAT, CENTER_LON, 5000);
+        List<MaintainerDto> second = search(CENTER_LAT + 0.0001, CENTER_LON + 0.0001, 5000);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(first).extracting(MaintainerDto::getId).containsExactly(close.getId(), further.getId());
+        assertThat(second.get(0).getDistanceInMeters()).isNotEqualTo(first.get(0).getDistanceInMeters());
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("matching.nearby.cache.age").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findNearestAvailable_shouldApplyTheExactRadiusToCachedCandidates() {
+        // When: the 1000 m bucket's candidate area is wider than the requested radius
+        List<MaintainerDto> result = search(CENTER_LAT, CENTER_LON, 500);
+
+        // Then
+        assertThat(result).extracting(MaintainerDto::getId).containsExactly(close.getId());
+    }
+
+    @Test
+    void invalidateAfterCommit_shouldOnlyDropEntriesCoveringTheLocation() {
+        // Given: one cached search here and one in Adama, ~75 km away
+        search(CENTER_LAT, CENTER_LON, 5000);
+        search(8.5400, 39.2700, 5000);
+
+        // When: a maintainer near the first search changes
+        nearbySearchCache.invalidateAfterCommit(TestUtils.createPoint(38.7550, 9.0340));
+        search(CENTER_LAT, CENTER_LON, 5000);
+        search(8.5400, 39.2700, 5000);
+
+        // Then: only the first search was loaded again
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("matching.nearby.cache.invalidations").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findNearestAvailable_shouldNotKeepALoadThatAnInvalidationOverlapped() {
+        // Given: a maintainer changes and commits while the first search is loading
+        List<MaintainerDto> first = nearbySearchCache.findNearestAvailable(CENTER_LAT, CENTER_LON, 5000, -1, FIRST_ID, 20,
+                (centerLat, centerLon, candidateRadius) -> {
+                    loads.incrementAndGet();
+                    nearbySearchCache.invalidateAfterCommit(TestUtils.createPoint(38.7550, 9.0340));
+                    return List.of(close, further);
+                });
+
+        // When
+        search(CENTER_LAT, CENTER_LON, 5000);
+
+        // Then: the first search used what it loaded, but the next one loaded again
+        assertThat(first).hasSize(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void covers_shouldExcludeRadiiBeyondTheLargestBucket() {
+        assertThat(nearbySearchCache.covers(5000)).isTrue();
+        assertThat(nearbySearchCache.covers(5001)).isFalse();
+    }
+
+    private List<MaintainerDto> search(double latitude, double longitude, double radius) {
+        return nearbySearchCache.findNearestAvailable(latitude, longitude, radius, -1, FIRST_ID, 20,
+                (centerLat, centerLon, candidateRadius) -> {
+                    loads.incrementAndGet();
+                    return List.of(close, further).stream()
+                            .filter(m -> MaintainerSpatialIndex.distanceInMeters(centerLat, centerLon,
+                                    m.getLatitude(), m.getLongitude()) <= candidateRadius)
+                            .toList();
+                });
+    }
+
+    private static MaintainerDto maintainer(String name, double latitude, double longitude) {
+        return MaintainerDto.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.client.AuthClient;
+import com.maintenance_match.matching.dto.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantResolverTest {
+
+    @Mock
+    private AuthClient authClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ParticipantResolver participantResolver;
+
+    private UserDto alice;
+    private UserDto bob;
+
+    @BeforeEach
+    void setUp() {
+        UserProfileCache userProfileCache = new UserProfileCache(authClient, new ConcurrentMapCacheManager(UserProfileCache.CACHE_NAME));
+        meterRegistry = new SimpleMeterRegistry();
+        participantResolver = new ParticipantResolver(userProfileCache, meterRegistry, Duration.ofMillis(300), 4, 16, false);
+        alice = user("Alice");
+        bob = user("Bob");
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantResolver.destroy();
+    }
+
+    @Test
+    void resolve_shouldLookUpBothParticipantsConcurrently() {
+        // Given: each lookup only returns once both are in flight
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(authClient.getUserById(alice.getId())).thenAnswer(inv -> awaitOther(bothStarted, alice));
+        when(authClient.getUserById(bob.getId())).thenAnswer(inv -> awaitOther(bothStarted, bob));
+
+        // When
+        Map<UUID, UserDto> users = participantResolver.resolve(Set.of(alice.getId(), bob.getId()));
+
+        // Then
+        assertThat(users).containsOnlyKeys(alice.getId(), bob.getId());
+        assertThat(meterRegistry.get("matching.participants.lookup").tag("outcome", "complete").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void resolve_shouldLookUpConcurrentlyOnVirtualThreads() {
+        // Given: the same resolver in virtual-thread mode
+        participantResolver.destroy();
+        participantResolver = new ParticipantResolver(new UserProfileCache(authClient, new ConcurrentMapCacheManager(UserProfileCache.CACHE_NAME)),
+                meterRegistry, Duration.ofMillis(300), 4, 16, true);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(authClient.getUserById(alice.getId())).thenAnswer(inv -> awaitOther(bothStarted, alice));
+        when(authClient.getUserById(bob.getId())).thenAnswer(inv -> awaitOther(bothStarted, bob));
+
+        // When
+        Map<UUID, UserDto> users = participantResolver.resolve(Set.of(alice.getId(), bob.getId()));
+
+        // Then
+        assertThat(users).containsOnlyKeys(alice.getId(), bob.getId());
+    }
+
+    @Test
+    void resolve_shouldOmitParticipantsThatAuthDoesNotReturnInTime() {
+        // Given: Alice resolves immediately, Bob's lookup hangs past the budget
+        CountDownLatch release = new CountDownLatch(1);
+        when(authClient.getUserById(alice.getId())).thenReturn(alice);
+        when(authClient.getUserById(bob.getId())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return bob;
+        });
+
+        // When
+        long start = System.nanoTime();
+        Map<UUID, UserDto> users = participantResolver.resolve(Set.of(alice.getId(), bob.getId()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then: a partial result within the budget, not a failure
+        assertThat(users).containsOnlyKeys(alice.getId());
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(meterRegistry.get("matching.participants.lookup").tag("outcome", "degraded").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldNotCallAuthWhenEveryParticipantIsCached() {
+        // Given
+        when(authClient.getUserById(alice.getId())).thenReturn(alice);
+        participantResolver.resolve(Set.of(alice.getId()));
+
+        // When
+        Map<UUID, UserDto> users = participantResolver.resolve(Set.of(alice.getId()));
+
+        // Then
+        assertThat(users).containsOnlyKeys(alice.getId());
+        verify(authClient, times(1)).getUserById(alice.getId());
+    }
+
+    private static UserDto awaitOther(CountDownLatch bothStarted, UserDto user) throws InterruptedException {
+        bothStarted.countDown();
+        return bothStarted.await(5, TimeUnit.SECONDS) ? user : null;
+    }
+
+    private UserDto user(String firstName) {
+        UserDto user = new UserDto();
+        user.setId(UUID.randomUUID());
+        user.setFirstName(firstName);
+        user.setLastName("Test");
+        return user;
+    }
+}
@@ -0,0 +1,95 @@
+package com.maintenance_match.matching.service;
+
+import com.maintenance_match.matching.client.AuthClient;
+import com.maintenance_match.matching.dto.UserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private AuthClient authClient;
+
+    private UserProfileCache userProfileCache;
+
+    private UserDto alice;
+    private UserDto bob;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache = new UserProfileCache(authClient, new ConcurrentMapCacheManager(UserProfileCache.CACHE_NAME));
+        alice = user("Alice");
+        bob = user("Bob");
+    }
+
+    @Test
+    void getUsers_shouldOnlyFetchMissesFromAuth() {
+        // Given: Alice is already cached
+        when(authClient.getUserById(alice.getId())).thenReturn(alice);
+        userProfileCache.getUser(alice.getId());
+        when(authClient.getUsersByIds(anyCollection())).thenReturn(List.of(bob));
+
+        // When
+        Map<UUID, UserDto> users = userProfileCache.getUsers(Set.of(alice.getId(), bob.getId()));
+
+        // Then: a single batch call for Bob only
+        assertThat(users).containsOnlyKeys(alice.getId(), bob.getId());
+        verify(authClient).getUsersByIds(List.of(bob.getId()));
+
+        // And a second lookup is served entirely from the cache
+        userProfileCache.getUsers(Set.of(alice.getId(), bob.getId()));
+        verify(authClient, times(1)).getUsersByIds(anyCollection());
+    }
+
+    @Test
+    void evict_shouldForceReloadOnNextLookup() {
+        // Given
+        when(authClient.getUserById(alice.getId())).thenReturn(alice);
+        userProfileCache.getUser(alice.getId());
+
+        // When
+        userProfileCache.evict(alice.getId());
+        userProfileCache.getUser(alice.getId());
+
+        // Then
+        verify(authClient, times(2)).getUserById(alice.getId());
+    }
+
+    @Test
+    void getUsers_shouldNotKeepProfilesFetchedWhileTheUserWasEvicted() {
+        // Given: Bob changes in auth while the batch call is still returning his old profile
+        when(authClient.getUsersByIds(anyCollection())).thenAnswer(inv -> {
+            userProfileCache.evict(bob.getId());
+            return List.of(alice, bob);
+        });
+
+        // When
+        Map<UUID, UserDto> users = userProfileCache.getUsers(List.of(alice.getId(), bob.getId()));
+
+        // Then: this lookup still answers, but nothing it fetched stays cached
+        assertThat(users).containsOnlyKeys(alice.getId(), bob.getId());
+        assertThat(userProfileCache.getCachedUsers(List.of(alice.getId(), bob.getId()))).isEmpty();
+    }
+
+    private UserDto user(String firstName) {
+        UserDto user = new UserDto();
+        user.setId(UUID.randomUUID());
+        user.setFirstName(firstName);
+        user.setLastName("Test");
+        return user;
+    }
+}
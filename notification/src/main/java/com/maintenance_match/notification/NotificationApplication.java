@@ -2,10 +2,14 @@ package com.maintenance_match.notification;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableCaching
 @EnableFeignClients
+@EnableScheduling
 public class NotificationApplication {
 
 	public static void main(String[] args) {
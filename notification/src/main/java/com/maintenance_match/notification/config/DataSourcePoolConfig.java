@@ -0,0 +1,22 @@
+package com.maintenance_match.notification.config;
+
+import com.maintenance_match.common.config.HikariPoolSizer;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Active when app.datasource.pool.size is set (the prod profile); see {@link HikariPoolSizer}
+ * for how the size is chosen.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.pool.size")
+public class DataSourcePoolConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new HikariPoolSizer(environment);
+    }
+}
@@ -0,0 +1,36 @@
+package com.maintenance_match.notification.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class EmailDispatchConfig {
+
+    @Value("${app.mail.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${app.mail.dispatch.queue-capacity:16}")
+    private int queueCapacity;
+
+    /**
+     * Worker pool that talks to the SMTP server, separate from the Kafka consumer threads.
+     * When every worker is busy and the queue is full, the submitting consumer thread sends
+     * the chunk itself, which slows polling down instead of buffering without bound.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emailDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("email-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -1,52 +1,232 @@
 package com.maintenance_match.notification.config;
 
-import com.maintenance_match.notification.dto.NotificationEvent;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.notification.dto.UserChangedEvent;
+import com.maintenance_match.notification.util.NotificationEventDeserializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
+@Slf4j
 public class KafkaConsumerConfig {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final KafkaAdmin kafkaAdmin;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${app.kafka.notification-batch.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${app.kafka.email-batch.max-poll-records:50}")
+    private int emailMaxPollRecords;
+
+    @Value("${app.kafka.topics.notification-send}")
+    private String notificationTopic;
+
+    @Value("${app.kafka.topics.user-changed}")
+    private String userChangedTopic;
+
+    // Assumed when the topic cannot be described at startup (the broker's default partition count)
+    @Value("${app.kafka.user-changed-partitions:1}")
+    private int userChangedPartitions;
+
+    @Value("${app.kafka.notification-consumers.partitions:6}")
+    private int notificationPartitions;
+
+    // "auto" follows the topic's partition count; a number fixes the thread count
+    @Value("${app.kafka.notification-consumers.concurrency:auto}")
+    private String notificationConcurrency;
+
+    @Value("${app.kafka.notification-consumers.max-concurrency:12}")
+    private int maxNotificationConcurrency;
+
+    private Integer resolvedConcurrency;
+
+    /**
+     * Declares the notification topic so it has enough partitions to consume in parallel.
+     * KafkaAdmin creates it if missing and adds partitions if it has fewer. Adding partitions
+     * moves some recipients to a new partition, so only in-flight events of those recipients
+     * can be reordered, once.
+     */
+    @Bean
+    public NewTopic notificationSendTopic() {
+        return TopicBuilder.name(notificationTopic)
+                .partitions(notificationPartitions)
+                .build();
+    }
+
     @Bean
     public ConsumerFactory<String, NotificationEvent> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, NotificationEventDeserializer.class);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        // Safe to replay from the start: already stored events are skipped by event_id
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.maintenance_match.notification.dto");
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.maintenance_match.common.dto");
 
-        return new DefaultKafkaConsumerFactory<>(
+        return withMetrics(new DefaultKafkaConsumerFactory<>(
                 props,
                 new StringDeserializer(),
-                new JsonDeserializer<>(NotificationEvent.class)
-        );
+                new NotificationEventDeserializer()
+        ));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, NotificationEvent> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, NotificationEvent> kafkaListenerContainerFactory(KafkaAdmin kafkaAdmin) {
         ConcurrentKafkaListenerContainerFactory<String, NotificationEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // One consumer thread per partition at most; a recipient's events share a partition,
+        // so they are still handled in order by a single thread
+        factory.setConcurrency(notificationConcurrency(kafkaAdmin));
+        // Deliver a poll's worth of events per call and commit offsets once per batch
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, NotificationEvent> emailConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, NotificationEventDeserializer.class);
+        // Smaller polls keep a batch of SMTP sends well inside max.poll.interval.ms
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, emailMaxPollRecords);
+
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.maintenance_match.common.dto");
+
+        return withMetrics(new DefaultKafkaConsumerFactory<>(
+                props,
+                new StringDeserializer(),
+                new NotificationEventDeserializer()
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, NotificationEvent> emailListenerContainerFactory(KafkaAdmin kafkaAdmin) {
+        ConcurrentKafkaListenerContainerFactory<String, NotificationEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(emailConsumerFactory());
+        factory.setConcurrency(notificationConcurrency(kafkaAdmin));
+        factory.setBatchListener(true);
+        // The listener commits only the successfully sent prefix of each batch
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, UserChangedEvent> userChangedConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // No consumer group and no committed offsets: only changes made while the instance runs
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        return new DefaultKafkaConsumerFactory<>(
+                props,
+                new StringDeserializer(),
+                new JsonDeserializer<>(UserChangedEvent.class, false)
+        );
+    }
+
+    /**
+     * Container factory for the user-changed broadcast: every instance is assigned all
+     * partitions without a consumer group, so restarts leave no orphaned groups on the broker.
+     * Offsets are never committed: the listener does not acknowledge and there is no group.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> userChangedBroadcastContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userChangedConsumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * Partitions of the user-changed topic for manual assignment. Partitions added later
+     * are picked up on the next restart.
+     */
+    public String[] userChangedPartitions() {
+        int partitions = userChangedPartitions;
+        try {
+            TopicDescription description = kafkaAdmin.describeTopics(userChangedTopic).get(userChangedTopic);
+            partitions = description.partitions().size();
+        } catch (Exception e) {
+            log.warn("Could not describe topic {}, assuming {} partitions: {}", userChangedTopic, partitions, e.getMessage());
+        }
+        return IntStream.range(0, partitions).mapToObj(String::valueOf).toArray(String[]::new);
+    }
+
+    /**
+     * Resolves the consumer thread count for notification.send. In auto mode this is the
+     * partition count (the declared count if the topic cannot be described yet), capped so a
+     * heavily partitioned topic does not spawn an unbounded number of threads per instance.
+     */
+    private synchronized int notificationConcurrency(KafkaAdmin kafkaAdmin) {
+        if (resolvedConcurrency != null) {
+            return resolvedConcurrency;
+        }
+        int concurrency;
+        if ("auto".equalsIgnoreCase(notificationConcurrency.trim())) {
+            int partitions = notificationPartitions;
+            try {
+                TopicDescription description = kafkaAdmin.describeTopics(notificationTopic).get(notificationTopic);
+                partitions = Math.max(partitions, description.partitions().size());
+            } catch (Exception e) {
+                log.warn("Could not describe topic {}, assuming {} partitions: {}", notificationTopic, partitions, e.getMessage());
+            }
+            concurrency = Math.min(partitions, maxNotificationConcurrency);
+        } else {
+            concurrency = Integer.parseInt(notificationConcurrency.trim());
+        }
+        resolvedConcurrency = Math.max(1, concurrency);
+        log.info("Consuming {} with {} threads per listener", notificationTopic, resolvedConcurrency);
+        return resolvedConcurrency;
+    }
+
+    /**
+     * Binds the Kafka client metrics to Micrometer, including records-lag per partition
+     * ({@code kafka.consumer.fetch.manager.records.lag}, tagged with topic and partition).
+     */
+    private <K, V> DefaultKafkaConsumerFactory<K, V> withMetrics(DefaultKafkaConsumerFactory<K, V> factory) {
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerConsumerListener<>(registry)));
         return factory;
     }
 }
@@ -0,0 +1,38 @@
+package com.maintenance_match.notification.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+@Configuration
+public class ThymeleafConfig {
+
+    /**
+     * Sizes the caches of the auto-configured template engine. The parsed-template cache only
+     * needs room for the templates we ship, while the expression cache holds every parsed
+     * ${...} expression across them.
+     */
+    @Bean
+    public static BeanPostProcessor templateCacheSizer(Environment environment) {
+        int templateCacheSize = environment.getProperty("app.mail.templates.cache-size", Integer.class, 50);
+        int expressionCacheSize = environment.getProperty("app.mail.templates.expression-cache-size", Integer.class, 500);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SpringTemplateEngine templateEngine) {
+                    StandardCacheManager cacheManager = new StandardCacheManager();
+                    cacheManager.setTemplateCacheInitialSize(templateCacheSize);
+                    cacheManager.setTemplateCacheMaxSize(templateCacheSize);
+                    cacheManager.setExpressionCacheInitialSize(expressionCacheSize);
+                    cacheManager.setExpressionCacheMaxSize(expressionCacheSize);
+                    templateEngine.setCacheManager(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
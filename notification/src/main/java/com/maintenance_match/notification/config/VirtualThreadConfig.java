@@ -0,0 +1,68 @@
+package com.maintenance_match.notification.config;
+
+import com.maintenance_match.common.config.VirtualThreadPinningMonitor;
+import feign.Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled} is true on Java 21 or later. Spring Boot
+ * then serves Tomcat requests on virtual threads; this class extends that to the pieces Boot
+ * does not configure for us.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Runs the consumers of our own listener container factories on virtual threads. Boot only
+     * does this for the factory it auto-configures, and KafkaConsumerConfig defines its own.
+     */
+    @Bean
+    public static BeanPostProcessor kafkaListenerVirtualThreads() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractKafkaListenerContainerFactory<?, ?, ?> factory) {
+                    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(beanName + "-");
+                    executor.setVirtualThreads(true);
+                    factory.getContainerProperties().setListenerTaskExecutor(executor);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Feign's default client is built on HttpURLConnection, parts of which still synchronize
+     * around socket I/O and can pin virtual threads. java.net.http.HttpClient does not.
+     */
+    @Bean
+    public Client feignClient(@Value("${app.virtual-threads.feign-connect-timeout:5s}") Duration connectTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(new VirtualThreadTaskExecutor("feign-"))
+                .build();
+        return new Http2Client(httpClient);
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
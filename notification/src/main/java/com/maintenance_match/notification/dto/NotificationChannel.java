@@ -1,7 +0,0 @@
-package com.maintenance_match.notification.dto;
-
-public enum NotificationChannel {
-    EMAIL,
-    IN_APP
-}
-
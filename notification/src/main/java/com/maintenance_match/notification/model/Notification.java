@@ -1,5 +1,6 @@
 package com.maintenance_match.notification.model;
 
+import com.maintenance_match.common.util.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Stored in monthly partitions on createdAt; see NotificationPartitionManager.
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,10 +23,11 @@ import java.util.UUID;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
-    @Column(unique = true, nullable = false)
+    // Deduplicated through notification_event_ids: the partitioned table cannot hold it unique
+    @Column(nullable = false)
     private UUID eventId;
 
     @Column(nullable = false)
@@ -0,0 +1,97 @@
+package com.maintenance_match.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partition DDL for the notifications table, which Spring Data cannot express.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    private static final String FIND_PARTITIONS = """
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'notifications'::regclass""";
+
+    // e.g. FOR VALUES FROM ('2026-10-01 00:00:00') TO ('2026-11-01 00:00:00'), or FROM (MINVALUE)
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((?:'([^']+)'|MINVALUE)\\) TO \\((?:'([^']+)'|MAXVALUE)\\)");
+    private static final DateTimeFormatter NAME_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A range partition; {@code from} is null for MINVALUE and {@code to} for MAXVALUE.
+     */
+    public record Partition(String name, LocalDateTime from, LocalDateTime to) {
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            return (from == null || from.isBefore(end)) && (to == null || to.isAfter(start));
+        }
+    }
+
+    /**
+     * @return The range partitions of notifications; a default partition, if any, is not listed.
+     */
+    public List<Partition> findPartitions() {
+        List<Partition> partitions = new ArrayList<>();
+        jdbcTemplate.query(FIND_PARTITIONS, rs -> {
+            Matcher bound = RANGE_BOUND.matcher(rs.getString(2));
+            if (bound.find()) {
+                partitions.add(new Partition(rs.getString(1), parse(bound.group(1)), parse(bound.group(2))));
+            }
+        });
+        return partitions;
+    }
+
+    /**
+     * Creates the partition for the month unless an existing partition already covers part of it.
+     * @return true if the partition was created.
+     */
+    public boolean createMonthIfAbsent(YearMonth month, List<Partition> existing) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        if (existing.stream().anyMatch(partition -> partition.overlaps(start, end))) {
+            return false;
+        }
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE notifications_p%s PARTITION OF notifications FOR VALUES FROM ('%s') TO ('%s')",
+                month.format(NAME_SUFFIX), Timestamp.valueOf(start), Timestamp.valueOf(end)));
+        return true;
+    }
+
+    public void drop(Partition partition) {
+        jdbcTemplate.execute("DROP TABLE \"" + partition.name().replace("\"", "\"\"") + "\"");
+    }
+
+    /**
+     * @return The number of claimed event IDs removed.
+     */
+    public int deleteEventIdsBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM notification_event_ids WHERE created_at < ?", Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * Takes a transaction-scoped advisory lock without waiting.
+     * @return true if this transaction now holds the lock.
+     */
+    public boolean tryAcquireLock(long lockId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockId));
+    }
+
+    private static LocalDateTime parse(String bound) {
+        return bound == null ? null : LocalDateTime.parse(bound.replace(' ', 'T'));
+    }
+}
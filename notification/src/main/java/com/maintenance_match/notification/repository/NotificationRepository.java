@@ -1,20 +1,37 @@
 package com.maintenance_match.notification.repository;
 
 import com.maintenance_match.notification.model.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Every read is bounded below by createdAt, so Postgres only scans the partitions that can
+ * contain matching rows.
+ */
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+public interface NotificationRepository extends JpaRepository<Notification, UUID>, NotificationRepositoryCustom {
 
-    List<Notification> findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(UUID recipientId);
+    List<Notification> findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(UUID recipientId, LocalDateTime since, Limit limit);
 
-    List<Notification> findByRecipientIdOrderByCreatedAtDesc(UUID recipientId);
+    long countByRecipientIdAndIsReadFalseAndCreatedAtGreaterThanEqual(UUID recipientId, LocalDateTime since);
 
-    long countByRecipientIdAndIsReadFalse(UUID recipientId);
+    Optional<Notification> findByIdAndCreatedAtGreaterThanEqual(UUID id, LocalDateTime since);
 
-    boolean existsByEventId(UUID eventId);
+    /**
+     * Marks the recipient's unread notifications since the given time as read in one statement.
+     * @return The number of notifications updated.
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.recipientId = :recipientId AND n.isRead = false AND n.createdAt >= :since")
+    int markAllAsRead(@Param("recipientId") UUID recipientId, @Param("since") LocalDateTime since);
 }
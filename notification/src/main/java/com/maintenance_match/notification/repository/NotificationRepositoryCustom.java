@@ -0,0 +1,18 @@
+package com.maintenance_match.notification.repository;
+
+import com.maintenance_match.notification.model.Notification;
+
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Inserts the notifications with JDBC batching, silently skipping any whose eventId
+     * was already stored. Duplicates are resolved by the notification_event_ids key in the
+     * same statement, so no existence check is needed and concurrent consumers cannot race.
+     * IDs and creation timestamps are assigned here.
+     * @param notifications The notifications to insert.
+     * @return The number of rows actually inserted.
+     */
+    int insertIgnoringDuplicates(List<Notification> notifications);
+}
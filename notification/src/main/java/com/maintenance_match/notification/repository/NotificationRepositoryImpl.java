@@ -0,0 +1,58 @@
+package com.maintenance_match.notification.repository;
+
+import com.maintenance_match.common.util.UuidV7;
+import com.maintenance_match.notification.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    // Claims the event ID first; the notification is only inserted if the claim was new
+    private static final String INSERT_SQL = """
+            WITH claimed AS (
+                INSERT INTO notification_event_ids (event_id, created_at) VALUES (?, ?)
+                ON CONFLICT (event_id) DO NOTHING
+                RETURNING event_id)
+            INSERT INTO notifications (id, event_id, recipient_id, message, is_read, created_at)
+            SELECT ?::uuid, event_id, ?::uuid, ?, ?::boolean, ?::timestamp FROM claimed""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertIgnoringDuplicates(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Notification notification : notifications) {
+            notification.setId(UuidV7.generate());
+            notification.setCreatedAt(now);
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            Timestamp createdAt = Timestamp.valueOf(notification.getCreatedAt());
+            ps.setObject(1, notification.getEventId());
+            ps.setTimestamp(2, createdAt);
+            ps.setObject(3, notification.getId());
+            ps.setObject(4, notification.getRecipientId());
+            ps.setString(5, notification.getMessage());
+            ps.setBoolean(6, notification.isRead());
+            ps.setTimestamp(7, createdAt);
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 0 means the eventId already existed
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+}
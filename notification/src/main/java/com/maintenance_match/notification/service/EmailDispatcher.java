@@ -0,0 +1,169 @@
+package com.maintenance_match.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.notification.dto.UserDto;
+import feign.FeignException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.exceptions.TemplateEngineException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Sends the EMAIL events of a consumed batch on the dedicated email worker pool.
+ * <p>
+ * The batch is split into chunks, and each chunk is sent over one SMTP connection.
+ * Chunks run in parallel, so emails to different recipients may go out in any order.
+ * Failures are tracked per event so the caller can commit everything before the first
+ * email that still has to be retried.
+ */
+@Component
+@Slf4j
+public class EmailDispatcher {
+
+    private final UserProfileCache userProfileCache;
+    private final EmailService emailService;
+    private final Executor executor;
+    private final int chunkSize;
+
+    // Events already delivered, so a partially failed batch does not resend them when redelivered
+    private final Cache<UUID, Boolean> recentlySent;
+
+    public EmailDispatcher(UserProfileCache userProfileCache,
+                           EmailService emailService,
+                           @Qualifier("emailDispatchExecutor") Executor executor,
+                           @Value("${app.mail.dispatch.chunk-size:20}") int chunkSize,
+                           @Value("${app.mail.dispatch.sent-event-retention:1h}") Duration sentEventRetention) {
+        this.userProfileCache = userProfileCache;
+        this.emailService = emailService;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.recentlySent = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(sentEventRetention)
+                .build();
+    }
+
+    /**
+     * Sends every EMAIL event in the batch and blocks until all chunks have finished.
+     * Events that can never succeed (unknown recipient, broken template, rejected address)
+     * are logged and treated as done.
+     * @param events The events of one poll, in partition order.
+     * @return The index of the first event that must be retried, or -1 if none.
+     */
+    public int dispatch(List<NotificationEvent> events) {
+        List<CompletableFuture<List<Integer>>> chunks = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getChannel() != NotificationChannel.EMAIL) {
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                chunks.add(submit(events, chunk));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(submit(events, chunk));
+        }
+
+        int firstFailed = -1;
+        for (CompletableFuture<List<Integer>> future : chunks) {
+            for (int index : future.join()) {
+                if (firstFailed < 0 || index < firstFailed) {
+                    firstFailed = index;
+                }
+            }
+        }
+        return firstFailed;
+    }
+
+    private CompletableFuture<List<Integer>> submit(List<NotificationEvent> events, List<Integer> indexes) {
+        return CompletableFuture.supplyAsync(() -> sendChunk(events, indexes), executor)
+                .exceptionally(e -> {
+                    log.error("Email chunk failed unexpectedly", e);
+                    return indexes;
+                });
+    }
+
+    /**
+     * @return The indexes of the events in this chunk that should be retried.
+     */
+    private List<Integer> sendChunk(List<NotificationEvent> events, List<Integer> indexes) {
+        List<Integer> retry = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>(indexes.size());
+        Map<MimeMessage, Integer> indexByMessage = new IdentityHashMap<>();
+
+        // 1. Resolve recipients and render
+        for (int index : indexes) {
+            NotificationEvent event = events.get(index);
+            if (event.getEventId() != null && recentlySent.getIfPresent(event.getEventId()) != null) {
+                log.debug("Email event {} was already sent. Skipping.", event.getEventId());
+                continue;
+            }
+            try {
+                UserDto user = userProfileCache.getUser(UUID.fromString(event.getRecipientId()));
+                MimeMessage message = emailService.createHtmlEmail(
+                        user.getEmail(), event.getSubject(), event.getTemplate(), event.getVariables());
+                messages.add(message);
+                indexByMessage.put(message, index);
+            } catch (Exception e) {
+                handleFailure(event, index, e, retry);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return retry;
+        }
+
+        // 2. Send over one connection
+        Map<MimeMessage, Exception> failures = emailService.sendAll(messages);
+        for (MimeMessage message : messages) {
+            int index = indexByMessage.get(message);
+            NotificationEvent event = events.get(index);
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                if (event.getEventId() != null) {
+                    recentlySent.put(event.getEventId(), Boolean.TRUE);
+                }
+            } else {
+                handleFailure(event, index, failure, retry);
+            }
+        }
+
+        log.info("Email chunk done: {} sent, {} to retry", messages.size() - failures.size(), retry.size());
+        return retry;
+    }
+
+    private void handleFailure(NotificationEvent event, int index, Exception e, List<Integer> retry) {
+        if (isPermanent(e)) {
+            log.error("Dropping email event {} for user {}: {}", event.getEventId(), event.getRecipientId(), e.getMessage());
+        } else {
+            log.warn("Email event {} for user {} failed and will be retried: {}", event.getEventId(), event.getRecipientId(), e.getMessage());
+            retry.add(index);
+        }
+    }
+
+    private static boolean isPermanent(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FeignException.NotFound
+                    || cause instanceof TemplateEngineException
+                    || cause instanceof SendFailedException
+                    || cause instanceof IllegalArgumentException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.maintenance_match.notification.service;
+
+import com.maintenance_match.common.dto.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailEventListener {
+
+    private final EmailDispatcher emailDispatcher;
+
+    @Value("${app.mail.dispatch.retry-backoff:5s}")
+    private Duration retryBackoff;
+
+    /**
+     * Consumes the notification topic in its own consumer group, so mail latency never delays
+     * in-app notifications. Offsets are only committed up to the first email that still has to
+     * be retried; that email and everything after it are redelivered after a backoff.
+     */
+    @KafkaListener(topics = "${app.kafka.topics.notification-send}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "emailListenerContainerFactory")
+    public void onEmailEvents(List<NotificationEvent> events, Acknowledgment acknowledgment) {
+        int firstFailed = emailDispatcher.dispatch(events);
+        if (firstFailed < 0) {
+            acknowledgment.acknowledge();
+        } else {
+            log.warn("Committing {} of {} events; retrying from index {} in {}", firstFailed, events.size(), firstFailed, retryBackoff);
+            acknowledgment.nack(firstFailed, retryBackoff);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.maintenance_match.notification.service;
 
+import jakarta.mail.internet.MimeMessage;
+
+import java.util.List;
 import java.util.Map;
 
 public interface EmailService {
@@ -11,4 +14,21 @@ public interface EmailService {
      * @param variables Map of variables to replace in the template
      */
     void sendHtmlEmail(String to, String subject, String templateName, Map<String, Object> variables);
+
+    /**
+     * Renders a Thymeleaf template into a ready-to-send HTML message without sending it.
+     * @param to Recipient email address
+     * @param subject Email subject line
+     * @param templateName The name of the HTML file in resources/templates (without .html)
+     * @param variables Map of variables to replace in the template
+     * @return The composed message
+     */
+    MimeMessage createHtmlEmail(String to, String subject, String templateName, Map<String, Object> variables);
+
+    /**
+     * Sends the messages over a single SMTP connection.
+     * @param messages Messages created by {@link #createHtmlEmail}
+     * @return The messages that could not be sent, mapped to the cause; empty if all were sent
+     */
+    Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages);
 }
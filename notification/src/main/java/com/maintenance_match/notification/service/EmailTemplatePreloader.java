@@ -0,0 +1,54 @@
+package com.maintenance_match.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Parses every email template once at startup so the first mail of each kind does not pay
+ * for reading and parsing the file. Parsed templates stay in the engine's template cache.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplatePreloader {
+
+    private final SpringTemplateEngine templateEngine;
+
+    @Value("${spring.thymeleaf.prefix:classpath:/templates/}")
+    private String prefix;
+
+    @Value("${spring.thymeleaf.suffix:.html}")
+    private String suffix;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadTemplates() throws IOException {
+        Resource[] templates = new PathMatchingResourcePatternResolver().getResources(prefix + "*" + suffix);
+        int loaded = 0;
+        for (Resource template : templates) {
+            String filename = template.getFilename();
+            if (filename == null) {
+                continue;
+            }
+            String templateName = filename.substring(0, filename.length() - suffix.length());
+            try {
+                // Variables are absent, so the output is meaningless; only the parse is kept
+                templateEngine.process(templateName, new Context(), Writer.nullWriter());
+                loaded++;
+            } catch (Exception e) {
+                log.warn("Could not preload email template {}: {}", templateName, e.getMessage());
+            }
+        }
+        log.info("Preloaded {} email templates", loaded);
+    }
+}
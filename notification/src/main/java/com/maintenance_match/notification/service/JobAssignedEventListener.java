@@ -1,12 +1,13 @@
 package com.maintenance_match.notification.service;
 
-import com.maintenance_match.notification.dto.NotificationEvent;
-import com.maintenance_match.notification.dto.NotificationRequest;
+import com.maintenance_match.common.dto.NotificationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -14,9 +15,14 @@ public class JobAssignedEventListener {
 
     private final NotificationService notificationService;
 
-    @KafkaListener(topics = "${app.kafka.topics.notification-send}", groupId = "${spring.kafka.consumer.group-id}")
-    public void onNotification(NotificationEvent event) {
-        log.info("Received notification event for user {}", event.getEventId());
-        notificationService.processNotification(event);
+    /**
+     * Consumes a whole poll at once and stores its in-app notifications with a single batched
+     * insert, acknowledging the batch once. EMAIL events are skipped here; they are handled by
+     * {@link EmailEventListener} in a separate consumer group.
+     */
+    @KafkaListener(topics = "${app.kafka.topics.notification-send}", groupId = "${app.kafka.in-app-group-id}")
+    public void onNotifications(List<NotificationEvent> events) {
+        log.info("Received batch of {} notification events", events.size());
+        notificationService.saveInAppNotifications(events);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.maintenance_match.notification.service;
+
+import com.maintenance_match.notification.repository.NotificationPartitionRepository;
+import com.maintenance_match.notification.repository.NotificationPartitionRepository.Partition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of notifications in step with the calendar: the current month
+ * and the next few always exist, so inserts never miss a partition, and months older than the
+ * retention period are dropped whole instead of deleted row by row. Claimed event IDs older
+ * than their own retention are pruned on the same run. One instance runs it at a time.
+ */
+@Component
+@Slf4j
+public class NotificationPartitionManager {
+
+    // Advisory lock key shared by every notification instance ("ntfprt" in ASCII)
+    private static final long PARTITION_LOCK_ID = 0x6E7466707274L;
+
+    private final NotificationPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Duration eventIdRetention;
+
+    public NotificationPartitionManager(NotificationPartitionRepository partitionRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${app.notifications.partitions.months-ahead:3}") int monthsAhead,
+                                        @Value("${app.notifications.partitions.retention-months:12}") int retentionMonths,
+                                        @Value("${app.notifications.partitions.event-id-retention:30d}") Duration eventIdRetention) {
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.eventIdRetention = eventIdRetention;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            maintain(YearMonth.now());
+        } catch (RuntimeException e) {
+            // The migration creates partitions months ahead; the scheduled run tries again
+            log.warn("Notification partition maintenance failed: {}", e.toString());
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.partitions.cron:0 15 3 * * *}")
+    public void onSchedule() {
+        maintain(YearMonth.now());
+    }
+
+    /**
+     * Creates missing partitions up to monthsAhead after the current month and drops those
+     * that ended before the first retained month.
+     * @return false if another instance is running the maintenance.
+     */
+    public boolean maintain(YearMonth currentMonth) {
+        Boolean ran = transactionTemplate.execute(status -> {
+            if (!partitionRepository.tryAcquireLock(PARTITION_LOCK_ID)) {
+                return false;
+            }
+            List<Partition> partitions = partitionRepository.findPartitions();
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = currentMonth.plusMonths(i);
+                if (partitionRepository.createMonthIfAbsent(month, partitions)) {
+                    log.info("Created notifications partition for {}", month);
+                }
+            }
+
+            LocalDateTime retainedFrom = currentMonth.minusMonths(retentionMonths).atDay(1).atStartOfDay();
+            for (Partition partition : partitions) {
+                if (partition.to() != null && !partition.to().isAfter(retainedFrom)) {
+                    partitionRepository.drop(partition);
+                    log.info("Dropped notifications partition {} (ended {})", partition.name(), partition.to());
+                }
+            }
+
+            int pruned = partitionRepository.deleteEventIdsBefore(LocalDateTime.now().minus(eventIdRetention));
+            log.info("Pruned {} claimed notification event IDs", pruned);
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+}
@@ -1,6 +1,6 @@
 package com.maintenance_match.notification.service;
 
-import com.maintenance_match.notification.dto.NotificationEvent;
+import com.maintenance_match.common.dto.NotificationEvent;
 import com.maintenance_match.notification.dto.NotificationResponse;
 
 import java.util.List;
@@ -8,6 +8,7 @@ import java.util.UUID;
 
 public interface NotificationService {
     void processNotification(NotificationEvent event);
+    int saveInAppNotifications(List<NotificationEvent> events);
     List<NotificationResponse> getMyNotifications(UUID userId);
     long getUnreadCount(UUID userId);
     void markAsRead(UUID notificationId, UUID userId);
@@ -0,0 +1,26 @@
+package com.maintenance_match.notification.service;
+
+import com.maintenance_match.notification.dto.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventListener {
+
+    private final UserProfileCache userProfileCache;
+
+    // Every instance is assigned all partitions without a consumer group so each local cache
+    // sees every change and a restart leaves no group behind.
+    @KafkaListener(topicPartitions = @TopicPartition(topic = "${app.kafka.topics.user-changed}",
+            partitions = "#{@kafkaConsumerConfig.userChangedPartitions()}"),
+            containerFactory = "userChangedBroadcastContainerFactory")
+    public void onUserChanged(UserChangedEvent event) {
+        log.info("User {} changed ({}). Evicting cached profile.", event.getUserId(), event.getChangeType());
+        userProfileCache.evict(event.getUserId());
+    }
+}
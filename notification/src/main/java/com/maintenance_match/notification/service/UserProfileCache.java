@@ -0,0 +1,44 @@
+package com.maintenance_match.notification.service;
+
+import com.maintenance_match.notification.client.AuthClient;
+import com.maintenance_match.notification.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bounded local cache of user details owned by the auth service.
+ * Entries expire by size/TTL (see spring.cache.caffeine.spec) and are evicted early
+ * when auth publishes a user-changed event.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileCache {
+
+    public static final String CACHE_NAME = "users";
+
+    private final AuthClient authClient;
+    private final CacheManager cacheManager;
+
+    /**
+     * Returns the user's details, loading them from auth on a cache miss.
+     */
+    public UserDto getUser(UUID userId) {
+        return cache().get(userId, () -> authClient.getUserById(userId));
+    }
+
+    public void evict(UUID userId) {
+        cache().evict(userId);
+        log.debug("Evicted cached profile for user {}", userId);
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache '" + CACHE_NAME + "' is not configured");
+    }
+}
@@ -1,43 +1,70 @@
 package com.maintenance_match.notification.service.impl;
 
 import com.maintenance_match.notification.service.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.io.StringWriter;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
+    // Initial render buffer for a template that has not been rendered yet
+    private static final int DEFAULT_RENDER_BUFFER_CHARS = 8 * 1024;
+    // Upper bound for the remembered size, so one oversized mail does not inflate every buffer
+    private static final int MAX_RENDER_BUFFER_CHARS = 64 * 1024;
+
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> renderTimers = new ConcurrentHashMap<>();
+    private final Map<String, Integer> renderedLengths = new ConcurrentHashMap<>();
 
     @Value("${spring.mail.username}")
     private String fromEmail;
 
     @Override
     public void sendHtmlEmail(String to, String subject, String templateName, Map<String, Object> variables) {
+        log.info("Preparing to send email to: {}", to);
+        MimeMessage message = createHtmlEmail(to, subject, templateName, variables);
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            log.info("Preparing to send email to: {}", to);
-
-            // 1. Prepare the Thymeleaf Context
-            Context context = new Context();
-            context.setVariables(variables);
+            mailSender.send(message);
+            sample.stop(sendTimer("success"));
+        } catch (MailException e) {
+            sample.stop(sendTimer("failure"));
+            throw e;
+        }
+        log.info("Email sent successfully to: {}", to);
+    }
 
-            // 2. Process the template to generate the HTML string
-            String htmlBody = templateEngine.process(templateName, context);
+    @Override
+    public MimeMessage createHtmlEmail(String to, String subject, String templateName, Map<String, Object> variables) {
+        try {
+            // 1. Render the template to HTML
+            String htmlBody = render(templateName, variables);
 
-            // 3. Create the MimeMessage
+            // 2. Create the MimeMessage
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
@@ -45,16 +72,73 @@ public class EmailServiceImpl implements EmailService {
             helper.setTo(to);
             helper.setSubject(subject);
             helper.setText(htmlBody, true); // true = HTML content
-
-            // 4. Send
-            mailSender.send(message);
-            log.info("Email sent successfully to: {}", to);
+            return message;
 
         } catch (MessagingException e) {
-            log.error("Failed to send email to {}: {}", to, e.getMessage());
+            log.error("Failed to compose email to {}: {}", to, e.getMessage());
             // In a real production app, you might throw a custom exception here
             // to trigger a Kafka retry. For now, we log it.
             throw new RuntimeException("Email sending failed", e);
         }
     }
+
+    @Override
+    public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            // JavaMailSenderImpl sends a whole array over one transport connection
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            sample.stop(sendTimer("success"));
+            return Map.of();
+        } catch (MailSendException e) {
+            sample.stop(sendTimer("failure"));
+            Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+            e.getFailedMessages().forEach((message, cause) -> failures.put((MimeMessage) message, cause));
+            if (failures.isEmpty()) {
+                messages.forEach(message -> failures.put(message, e));
+            }
+            log.error("Failed to send {} of {} emails: {}", failures.size(), messages.size(), e.getMessage());
+            return failures;
+        } catch (MailException e) {
+            sample.stop(sendTimer("failure"));
+            log.error("Failed to send {} emails: {}", messages.size(), e.getMessage());
+            Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+            messages.forEach(message -> failures.put(message, e));
+            return failures;
+        }
+    }
+
+    /**
+     * Renders into a writer sized from the last rendering of the same template, so the output
+     * is written without the writer growing and copying along the way. The buffer is local to
+     * the call: consumers may run on virtual threads, where a per-thread buffer would be
+     * allocated for every message anyway.
+     */
+    private String render(String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+
+        StringWriter buffer = new StringWriter(renderedLengths.getOrDefault(templateName, DEFAULT_RENDER_BUFFER_CHARS));
+        long start = System.nanoTime();
+        templateEngine.process(templateName, context, buffer);
+        String html = buffer.toString();
+        renderTimers.computeIfAbsent(templateName, name -> Timer.builder("notification.email.render")
+                        .description("Time to render an email template")
+                        .tag("template", name)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        // A little headroom for longer names and messages in the next mail
+        renderedLengths.put(templateName, Math.min(html.length() + html.length() / 8, MAX_RENDER_BUFFER_CHARS));
+        return html;
+    }
+
+    private Timer sendTimer(String outcome) {
+        return Timer.builder("notification.email.send")
+                .description("Time to hand emails to the SMTP server, per connection")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
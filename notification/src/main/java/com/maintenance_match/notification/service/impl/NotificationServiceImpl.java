@@ -1,6 +1,7 @@
 package com.maintenance_match.notification.service.impl;
 
-import com.maintenance_match.notification.client.AuthClient;
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
 import com.maintenance_match.notification.dto.*;
 import com.maintenance_match.notification.exception.NotificationAccessDeniedException;
 import com.maintenance_match.notification.exception.ResourceNotFoundException;
@@ -8,15 +9,17 @@ import com.maintenance_match.notification.model.Notification;
 import com.maintenance_match.notification.repository.NotificationRepository;
 import com.maintenance_match.notification.service.EmailService;
 import com.maintenance_match.notification.service.NotificationService;
+import com.maintenance_match.notification.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @Slf4j
@@ -24,9 +27,15 @@ import java.util.UUID;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final AuthClient authClient;
+    private final UserProfileCache userProfileCache;
     private final EmailService emailService;
 
+    @Value("${app.notifications.inbox.window:90d}")
+    private Duration inboxWindow;
+
+    @Value("${app.notifications.inbox.max-size:100}")
+    private int inboxMaxSize;
+
     @Override
     @Transactional
     public void processNotification(NotificationEvent event) {
@@ -40,30 +49,54 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
+    /**
+     * Stores every IN_APP event of a consumed batch with one batched insert. Events repeated
+     * within the batch or already stored are skipped by the eventId unique key.
+     * Other channels are ignored.
+     * @param events The events of one poll, in partition order.
+     * @return The number of notifications actually stored.
+     */
+    @Override
+    @Transactional
+    public int saveInAppNotifications(List<NotificationEvent> events) {
+        Map<UUID, Notification> byEventId = new LinkedHashMap<>();
+        for (NotificationEvent event : events) {
+            if (event.getChannel() == NotificationChannel.IN_APP) {
+                byEventId.putIfAbsent(event.getEventId(), toNotification(event));
+            }
+        }
+        if (byEventId.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = notificationRepository.insertIgnoringDuplicates(new ArrayList<>(byEventId.values()));
+        log.info("Saved {} In-App notifications ({} duplicates skipped).", inserted, byEventId.size() - inserted);
+        return inserted;
+    }
+
     private void handleInAppNotification(NotificationEvent event) {
-        // 1. Idempotency Check
-        if (notificationRepository.existsByEventId(event.getEventId())) {
+        // Duplicates are skipped by the event ID claim in the same statement
+        if (notificationRepository.insertIgnoringDuplicates(List.of(toNotification(event))) == 0) {
             log.warn("Duplicate In-App notification event {} detected. Skipping.", event.getEventId());
             return;
         }
+        log.info("In-App notification saved.");
+    }
 
-        // 2. Save to DB
-        Notification notification = Notification.builder()
+    private Notification toNotification(NotificationEvent event) {
+        return Notification.builder()
                 .eventId(event.getEventId())
                 .recipientId(UUID.fromString(event.getRecipientId()))
                 .message(event.getMessage())
                 .isRead(false)
                 .build();
-
-        notificationRepository.save(notification);
-        log.info("In-App notification saved.");
     }
 
     private void handleEmailNotification(NotificationEvent event) {
         // 1. Fetch User Data
         UserDto userDto;
         try {
-            userDto = authClient.getUserById(UUID.fromString(event.getRecipientId()));
+            userDto = userProfileCache.getUser(UUID.fromString(event.getRecipientId()));
         } catch (Exception e) {
             log.error("Failed to fetch user details. Cannot send email.", e);
             throw e; // Rethrow to trigger Kafka retry
@@ -84,10 +117,14 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
+    /**
+     * @return The user's newest notifications within the inbox window, newest first.
+     */
     @Override
     @Transactional(readOnly = true)
     public List<NotificationResponse> getMyNotifications(UUID userId) {
-        return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(userId).stream()
+        return notificationRepository.findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                        userId, inboxStart(), Limit.of(inboxMaxSize)).stream()
                 .map(NotificationResponse::fromEntity)
                 .toList();
     }
@@ -95,13 +132,13 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional(readOnly = true)
     public long getUnreadCount(UUID userId) {
-        return notificationRepository.countByRecipientIdAndIsReadFalse(userId);
+        return notificationRepository.countByRecipientIdAndIsReadFalseAndCreatedAtGreaterThanEqual(userId, inboxStart());
     }
 
     @Override
     @Transactional
     public void markAsRead(UUID notificationId, UUID userId) {
-        Notification notification = notificationRepository.findById(notificationId)
+        Notification notification = notificationRepository.findByIdAndCreatedAtGreaterThanEqual(notificationId, inboxStart())
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found with ID: " + notificationId));
 
         if (!notification.getRecipientId().equals(userId)) {
@@ -115,8 +152,12 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional
     public void markAllAsRead(UUID userId) {
-        List<Notification> unread = notificationRepository.findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-        unread.forEach(n -> n.setRead(true));
-        notificationRepository.saveAll(unread);
+        int updated = notificationRepository.markAllAsRead(userId, inboxStart());
+        log.info("Marked {} notifications as read for user {}", updated, userId);
+    }
+
+    // Older notifications are neither listed nor counted, so reads skip their partitions
+    private LocalDateTime inboxStart() {
+        return LocalDateTime.now().minus(inboxWindow);
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.maintenance_match.notification.util;
+
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.util.NotificationEventAvroCodec;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * Reads notification events in either wire format, so producers can move from JSON to
+ * Avro one service at a time. Avro payloads are recognised by their magic byte; anything
+ * else is handed to the JSON deserializer.
+ */
+public class NotificationEventDeserializer implements Deserializer<NotificationEvent> {
+
+    private final JsonDeserializer<NotificationEvent> jsonDeserializer = new JsonDeserializer<>(NotificationEvent.class);
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public NotificationEvent deserialize(String topic, byte[] data) {
+        if (NotificationEventAvroCodec.isAvro(data)) {
+            return NotificationEventAvroCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public NotificationEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (NotificationEventAvroCodec.isAvro(data)) {
+            return NotificationEventAvroCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,11 @@
+-- The schema Hibernate generated from the Notification entity, so a fresh database exists
+-- before the partitioning migration runs. Existing databases are baselined at this version
+-- and skip it.
+CREATE TABLE IF NOT EXISTS notifications (
+    id           uuid PRIMARY KEY,
+    event_id     uuid          NOT NULL UNIQUE,
+    recipient_id uuid          NOT NULL,
+    message      varchar(1024) NOT NULL,
+    is_read      boolean       NOT NULL,
+    created_at   timestamp(6)  NOT NULL
+);
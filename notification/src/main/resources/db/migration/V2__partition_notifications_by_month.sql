@@ -0,0 +1,64 @@
+-- Monthly range partitions on created_at. The existing table is attached as the partition
+-- holding everything up to the end of the month of its newest row (or before the current
+-- month, when that is later), so no rows are copied; the retention job drops it once its
+-- newest rows are past the retention period. Monthly partitions start where it ends, and
+-- later months are created ahead of time by NotificationPartitionManager.
+--
+-- A unique index on a partitioned table must contain the partition key, so event_id can no
+-- longer be unique on notifications. Each event is instead claimed once in
+-- notification_event_ids, which only needs to outlive Kafka's redelivery window.
+
+CREATE TABLE notification_event_ids (
+    event_id   uuid PRIMARY KEY,
+    created_at timestamp(6) NOT NULL
+);
+
+INSERT INTO notification_event_ids (event_id, created_at)
+SELECT event_id, created_at FROM notifications;
+
+CREATE INDEX idx_notification_event_ids_created ON notification_event_ids (created_at);
+
+ALTER TABLE notifications RENAME TO notifications_legacy;
+-- The partition's primary key must match the parent's (id, created_at)
+ALTER TABLE notifications_legacy DROP CONSTRAINT notifications_pkey;
+ALTER TABLE notifications_legacy ADD CONSTRAINT notifications_legacy_pkey PRIMARY KEY (id, created_at);
+
+CREATE TABLE notifications (
+    id           uuid          NOT NULL,
+    event_id     uuid          NOT NULL,
+    recipient_id uuid          NOT NULL,
+    message      varchar(1024) NOT NULL,
+    is_read      boolean       NOT NULL,
+    created_at   timestamp(6)  NOT NULL,
+    CONSTRAINT notifications_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    legacy_end  timestamp;
+    month_start timestamp;
+BEGIN
+    -- Rows from the current month (or a clock running ahead) keep their month in the legacy
+    -- table; GREATEST ignores the NULL max of an empty table
+    SELECT GREATEST(date_trunc('month', localtimestamp),
+                    date_trunc('month', max(created_at)) + interval '1 month')
+    INTO legacy_end
+    FROM notifications_legacy;
+
+    -- Proves the range up front, so ATTACH does not scan the table again
+    EXECUTE format('ALTER TABLE notifications_legacy ADD CONSTRAINT notifications_legacy_range CHECK (created_at < %L)',
+                   legacy_end);
+    EXECUTE format('ALTER TABLE notifications ATTACH PARTITION notifications_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                   legacy_end);
+
+    FOR i IN 0..3 LOOP
+        month_start := legacy_end + make_interval(months => i);
+        EXECUTE format('CREATE TABLE notifications_p%s PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month_start, 'YYYY_MM'), month_start, month_start + interval '1 month');
+    END LOOP;
+END $$;
+
+-- Inbox: a recipient's newest notifications, pruned to recent partitions by created_at
+CREATE INDEX idx_notifications_recipient_created ON notifications (recipient_id, created_at DESC);
+-- Unread count and mark-all-read only touch unread rows
+CREATE INDEX idx_notifications_recipient_unread ON notifications (recipient_id, created_at) WHERE is_read = false;
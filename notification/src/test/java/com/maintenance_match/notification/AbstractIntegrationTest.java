@@ -22,6 +22,8 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.datasource.url", postgresContainer::getJdbcUrl);
         registry.add("spring.datasource.username", postgresContainer::getUsername);
         registry.add("spring.datasource.password", postgresContainer::getPassword);
-        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        // No broker in these tests: skip topic creation and partition lookups
+        registry.add("spring.kafka.admin.auto-create", () -> "false");
+        registry.add("app.kafka.notification-consumers.concurrency", () -> "1");
     }
 }
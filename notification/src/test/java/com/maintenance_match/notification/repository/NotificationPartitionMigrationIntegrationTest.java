@@ -0,0 +1,83 @@
+package com.maintenance_match.notification.repository;
+
+import com.maintenance_match.notification.AbstractIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the partitioning migration against a database that already holds notifications, in a
+ * schema of its own so the application's schema is left alone.
+ */
+public class NotificationPartitionMigrationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String SCHEMA = "partition_migration";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    void partitionMigration_shouldKeepRowsFromTheCurrentMonthInTheLegacyPartition() {
+        // Given: the pre-partitioning schema with rows from last month and from this month
+        flyway("1").migrate();
+        YearMonth currentMonth = YearMonth.now();
+        insertNotification(currentMonth.minusMonths(1).atDay(15).atStartOfDay());
+        insertNotification(LocalDateTime.now().withNano(0));
+
+        // When
+        flyway(null).migrate();
+
+        // Then: the legacy partition ends with this month and monthly partitions start after it
+        YearMonth nextMonth = currentMonth.plusMonths(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT pg_get_expr(relpartbound, oid) FROM pg_class WHERE oid = '" + SCHEMA + ".notifications_legacy'::regclass",
+                String.class))
+                .isEqualTo("FOR VALUES FROM (MINVALUE) TO ('" + nextMonth.atDay(1) + " 00:00:00')");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".notifications", Long.class))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".notification_event_ids", Long.class))
+                .isEqualTo(2);
+
+        // And: new rows from next month land in its own partition
+        insertNotification(nextMonth.atDay(2).atStartOfDay());
+        assertThat(jdbcTemplate.queryForObject(String.format("SELECT count(*) FROM %s.notifications_p%d_%02d",
+                SCHEMA, nextMonth.getYear(), nextMonth.getMonthValue()), Long.class))
+                .isEqualTo(1);
+    }
+
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private void insertNotification(LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".notifications (id, event_id, recipient_id, message, is_read, created_at) " +
+                        "VALUES (?, ?, ?, 'New job', false, ?)",
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,61 @@
+package com.maintenance_match.notification.repository;
+
+import com.maintenance_match.notification.AbstractIntegrationTest;
+import com.maintenance_match.notification.repository.NotificationPartitionRepository.Partition;
+import com.maintenance_match.notification.service.NotificationPartitionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationPartitionRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private NotificationPartitionRepository partitionRepository;
+
+    @Autowired
+    private NotificationPartitionManager partitionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void maintain_shouldCreateMonthsAheadAndDropExpiredPartitions() {
+        // Given: maintenance runs as if two years had passed
+        YearMonth future = YearMonth.now().plusYears(2);
+
+        // When
+        boolean ran = partitionManager.maintain(future);
+
+        // Then: the future months exist and everything from before the retention period is gone
+        assertThat(ran).isTrue();
+        List<Partition> partitions = partitionRepository.findPartitions();
+        assertThat(partitions).extracting(Partition::name)
+                .contains(String.format("notifications_p%d_%02d", future.getYear(), future.getMonthValue()))
+                .doesNotContain("notifications_legacy");
+        LocalDateTime retainedFrom = future.minusMonths(12).atDay(1).atStartOfDay();
+        assertThat(partitions).allSatisfy(partition -> assertThat(partition.to()).isAfter(retainedFrom));
+    }
+
+    @Test
+    void inboxQuery_shouldOnlyScanPartitionsInsideTheWindow() {
+        // Given
+        partitionManager.maintain(YearMonth.now());
+        LocalDateTime since = YearMonth.now().atDay(1).atStartOfDay();
+
+        // When
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM notifications WHERE recipient_id = '00000000-0000-0000-0000-000000000000' " +
+                        "AND created_at >= '" + Timestamp.valueOf(since) + "'",
+                String.class);
+
+        // Then: the legacy partition holds only earlier rows and is pruned
+        assertThat(String.join("\n", plan)).doesNotContain("notifications_legacy");
+    }
+}
@@ -5,7 +5,10 @@ import com.maintenance_match.notification.model.Notification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class NotificationRepositoryIntegrationTest extends AbstractIntegrationTest {
 
+    private static final LocalDateTime WINDOW_START = LocalDateTime.now().minusDays(1);
+
     @Autowired
     private NotificationRepository notificationRepository;
 
@@ -27,32 +32,73 @@ public class NotificationRepositoryIntegrationTest extends AbstractIntegrationTe
         testRecipientId2 = UUID.randomUUID();
 
         // Create a mix of notifications
-        Notification n1_user1_unread = Notification.builder().recipientId(testRecipientId1).message("Message 1").isRead(false).build();
-        Notification n2_user1_read = Notification.builder().recipientId(testRecipientId1).message("Message 2").isRead(true).build();
-        Notification n3_user2_unread = Notification.builder().recipientId(testRecipientId2).message("Message 3").isRead(false).build();
+        Notification n1_user1_unread = Notification.builder().eventId(UUID.randomUUID()).recipientId(testRecipientId1).message("Message 1").isRead(false).build();
+        Notification n2_user1_read = Notification.builder().eventId(UUID.randomUUID()).recipientId(testRecipientId1).message("Message 2").isRead(true).build();
+        Notification n3_user2_unread = Notification.builder().eventId(UUID.randomUUID()).recipientId(testRecipientId2).message("Message 3").isRead(false).build();
 
         // Save out of order to test the sorting
         notificationRepository.saveAll(List.of(n2_user1_read, n3_user2_unread, n1_user1_unread));
     }
 
     @Test
-    void findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc_shouldReturnOnlyUnread() {
+    void countByRecipientIdAndIsReadFalseAndCreatedAtGreaterThanEqual_shouldCountOnlyUnread() {
         // When
-        List<Notification> unreadNotifications = notificationRepository.findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(testRecipientId1);
+        long unread = notificationRepository.countByRecipientIdAndIsReadFalseAndCreatedAtGreaterThanEqual(testRecipientId1, WINDOW_START);
 
         // Then
-        assertThat(unreadNotifications).hasSize(1);
-        assertThat(unreadNotifications.get(0).getMessage()).isEqualTo("Message 1");
-        assertThat(unreadNotifications.get(0).isRead()).isFalse();
+        assertThat(unread).isEqualTo(1);
     }
 
     @Test
-    void findByRecipientIdOrderByCreatedAtDesc_shouldReturnAllForUser() {
+    void findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc_shouldReturnAllForUser() {
         // When
-        List<Notification> allNotifications = notificationRepository.findByRecipientIdOrderByCreatedAtDesc(testRecipientId1);
+        List<Notification> allNotifications = notificationRepository
+                .findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(testRecipientId1, WINDOW_START, Limit.of(10));
 
         // Then
         assertThat(allNotifications).hasSize(2);
         assertThat(allNotifications).extracting(Notification::getMessage).containsExactly("Message 1", "Message 2");
     }
+
+    @Test
+    void findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc_shouldSkipOlderNotifications() {
+        // When: the window starts after every stored notification
+        List<Notification> recent = notificationRepository
+                .findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(testRecipientId1, LocalDateTime.now().plusMinutes(1), Limit.of(10));
+
+        // Then
+        assertThat(recent).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void markAllAsRead_shouldUpdateOnlyTheRecipientsUnreadNotifications() {
+        // When
+        int updated = notificationRepository.markAllAsRead(testRecipientId1, WINDOW_START);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(notificationRepository.countByRecipientIdAndIsReadFalseAndCreatedAtGreaterThanEqual(testRecipientId1, WINDOW_START)).isZero();
+        assertThat(notificationRepository.countByRecipientIdAndIsReadFalseAndCreatedAtGreaterThanEqual(testRecipientId2, WINDOW_START)).isEqualTo(1);
+    }
+
+    @Test
+    void insertIgnoringDuplicates_shouldSkipExistingEventIds() {
+        // Given
+        UUID eventId = UUID.randomUUID();
+        Notification original = Notification.builder().eventId(eventId).recipientId(testRecipientId2).message("Original").build();
+        notificationRepository.insertIgnoringDuplicates(List.of(original));
+
+        Notification redelivered = Notification.builder().eventId(eventId).recipientId(testRecipientId2).message("Redelivered").build();
+        Notification fresh = Notification.builder().eventId(UUID.randomUUID()).recipientId(testRecipientId2).message("Fresh").build();
+
+        // When
+        int inserted = notificationRepository.insertIgnoringDuplicates(List.of(redelivered, fresh));
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(notificationRepository.findByRecipientIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(testRecipientId2, WINDOW_START, Limit.of(10)))
+                .extracting(Notification::getMessage)
+                .containsExactlyInAnyOrder("Message 3", "Original", "Fresh");
+    }
 }
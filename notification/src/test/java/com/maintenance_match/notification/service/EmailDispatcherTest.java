@@ -0,0 +1,124 @@
+package com.maintenance_match.notification.service;
+
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.notification.dto.UserDto;
+import feign.FeignException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private EmailService emailService;
+
+    private EmailDispatcher emailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // Run chunks on the calling thread; two events per chunk
+        emailDispatcher = new EmailDispatcher(userProfileCache, emailService, Runnable::run, 2, Duration.ofHours(1));
+    }
+
+    @Test
+    void dispatch_whenAllSent_shouldReturnNoFailure() {
+        // Given
+        NotificationEvent first = emailEvent(UUID.randomUUID());
+        NotificationEvent second = emailEvent(UUID.randomUUID());
+        NotificationEvent inApp = NotificationEvent.builder().eventId(UUID.randomUUID()).channel(NotificationChannel.IN_APP).build();
+        stubUser(first);
+        stubUser(second);
+        when(emailService.createHtmlEmail(anyString(), any(), any(), any())).thenAnswer(i -> mock(MimeMessage.class));
+        when(emailService.sendAll(anyList())).thenReturn(Map.of());
+
+        // When
+        int firstFailed = emailDispatcher.dispatch(List.of(first, inApp, second));
+
+        // Then: both emails went out over a single connection
+        assertThat(firstFailed).isEqualTo(-1);
+        verify(emailService, times(1)).sendAll(argThat(messages -> messages.size() == 2));
+    }
+
+    @Test
+    void dispatch_whenSendFails_shouldReturnFirstFailedIndexAndNotResendSuccesses() {
+        // Given: chunks [0, 1] and [2]; the message for index 1 is rejected by the server
+        NotificationEvent sent = emailEvent(UUID.randomUUID());
+        NotificationEvent failed = emailEvent(UUID.randomUUID());
+        NotificationEvent last = emailEvent(UUID.randomUUID());
+        stubUser(sent);
+        stubUser(failed);
+        stubUser(last);
+
+        MimeMessage sentMessage = mock(MimeMessage.class);
+        MimeMessage failedMessage = mock(MimeMessage.class);
+        MimeMessage lastMessage = mock(MimeMessage.class);
+        when(emailService.createHtmlEmail(anyString(), any(), any(), any()))
+                .thenReturn(sentMessage, failedMessage, lastMessage, failedMessage);
+        when(emailService.sendAll(anyList()))
+                .thenReturn(Map.of(failedMessage, new MailSendException("Connection reset")), Map.of());
+
+        // When
+        int firstFailed = emailDispatcher.dispatch(List.of(sent, failed, last));
+
+        // Then
+        assertThat(firstFailed).isEqualTo(1);
+
+        // When: the batch is redelivered
+        int retried = emailDispatcher.dispatch(List.of(sent, failed, last));
+
+        // Then: only the unsent events are rendered again
+        assertThat(retried).isEqualTo(-1);
+        verify(emailService, times(4)).createHtmlEmail(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void dispatch_whenRecipientIsUnknown_shouldDropEvent() {
+        // Given
+        NotificationEvent event = emailEvent(UUID.randomUUID());
+        when(userProfileCache.getUser(UUID.fromString(event.getRecipientId()))).thenThrow(mock(FeignException.NotFound.class));
+
+        // When
+        int firstFailed = emailDispatcher.dispatch(List.of(event));
+
+        // Then
+        assertThat(firstFailed).isEqualTo(-1);
+        verify(emailService, never()).createHtmlEmail(anyString(), any(), any(), any());
+        verify(emailService, never()).sendAll(anyList());
+    }
+
+    private NotificationEvent emailEvent(UUID recipientId) {
+        return NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(recipientId.toString())
+                .channel(NotificationChannel.EMAIL)
+                .subject("Welcome")
+                .template("welcome-email")
+                .variables(Map.of("name", "Almaz"))
+                .build();
+    }
+
+    private void stubUser(NotificationEvent event) {
+        UserDto user = new UserDto();
+        user.setId(UUID.fromString(event.getRecipientId()));
+        user.setEmail(event.getRecipientId() + "@example.com");
+        when(userProfileCache.getUser(user.getId())).thenReturn(user);
+    }
+}
@@ -0,0 +1,85 @@
+package com.maintenance_match.notification.service;
+
+import com.maintenance_match.notification.service.impl.EmailServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceImplTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailServiceImpl emailService;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        meterRegistry = new SimpleMeterRegistry();
+        emailService = new EmailServiceImpl(mailSender, templateEngine, meterRegistry);
+        ReflectionTestUtils.setField(emailService, "fromEmail", "no-reply@example.com");
+        when(mailSender.createMimeMessage()).thenAnswer(i -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    void sendHtmlEmail_shouldRecordRenderAndSendTimersSeparately() throws Exception {
+        // When: the same template twice, so the second render reuses the thread's buffer
+        emailService.sendHtmlEmail("almaz@example.com", "Welcome", "welcome-email", Map.of("name", "Almaz"));
+        emailService.sendHtmlEmail("abebe@example.com", "Welcome", "welcome-email", Map.of("name", "Abebe"));
+
+        // Then
+        assertThat(meterRegistry.get("notification.email.render").tag("template", "welcome-email").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("notification.email.send").tag("outcome", "success").timer().count())
+                .isEqualTo(2);
+        verify(mailSender, times(2)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    void createHtmlEmail_shouldNotLeakPreviousRenderIntoNextMessage() throws Exception {
+        // Given
+        emailService.createHtmlEmail("almaz@example.com", "Welcome", "welcome-email", Map.of("name", "Almaz"));
+
+        // When
+        MimeMessage message = emailService.createHtmlEmail("abebe@example.com", "Welcome", "welcome-email", Map.of("name", "Abebe"));
+        message.saveChanges();
+
+        // Then
+        String html = htmlBody(message);
+        assertThat(html).contains("Abebe").doesNotContain("Almaz");
+    }
+
+    private static String htmlBody(MimeMessage message) throws Exception {
+        // MimeMessageHelper in multipart mode nests the body as mixed -> related -> html part
+        MimeMultipart mixed = (MimeMultipart) message.getContent();
+        MimeMultipart related = (MimeMultipart) mixed.getBodyPart(0).getContent();
+        return (String) related.getBodyPart(0).getContent();
+    }
+}
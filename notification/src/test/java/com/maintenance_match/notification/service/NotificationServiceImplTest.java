@@ -1,5 +1,7 @@
 package com.maintenance_match.notification.service;
 
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
 import com.maintenance_match.notification.dto.NotificationRequest;
 import com.maintenance_match.notification.model.Notification;
 import com.maintenance_match.notification.repository.NotificationRepository;
@@ -11,11 +13,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class NotificationServiceImplTest {
@@ -49,4 +54,41 @@ public class NotificationServiceImplTest {
         assertThat(savedNotification.isRead()).isFalse(); // Should default to unread
         assertThat(savedNotification.getId()).isNull(); // The ID is generated by the database, so it's null before saving
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveInAppNotifications_shouldInsertOncePerDistinctInAppEvent() {
+        // Given: a redelivered event, and an email that must not be stored
+        String recipientId = UUID.randomUUID().toString();
+        NotificationEvent first = inAppEvent(recipientId, "Job matched");
+        NotificationEvent second = inAppEvent(recipientId, "Job completed");
+        NotificationEvent email = NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(recipientId)
+                .channel(NotificationChannel.EMAIL)
+                .template("welcome-email")
+                .build();
+        when(notificationRepository.insertIgnoringDuplicates(anyList())).thenReturn(2);
+
+        // When
+        int inserted = notificationService.saveInAppNotifications(List.of(first, email, second, first));
+
+        // Then
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(1)).insertIgnoringDuplicates(captor.capture());
+        assertThat(inserted).isEqualTo(2);
+        assertThat(captor.getValue())
+                .extracting(Notification::getEventId)
+                .containsExactly(first.getEventId(), second.getEventId());
+        assertThat(captor.getValue()).allSatisfy(n -> assertThat(n.isRead()).isFalse());
+    }
+
+    private NotificationEvent inAppEvent(String recipientId, String message) {
+        return NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(recipientId)
+                .channel(NotificationChannel.IN_APP)
+                .message(message)
+                .build();
+    }
 }
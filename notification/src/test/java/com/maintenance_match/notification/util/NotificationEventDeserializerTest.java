@@ -0,0 +1,65 @@
+package com.maintenance_match.notification.util;
+
+import com.maintenance_match.common.dto.NotificationChannel;
+import com.maintenance_match.common.dto.NotificationEvent;
+import com.maintenance_match.common.util.NotificationEventAvroCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationEventDeserializerTest {
+
+    private static final String TOPIC = "notification.send";
+
+    private NotificationEventDeserializer deserializer;
+    private NotificationEvent emailEvent;
+
+    @BeforeEach
+    void setUp() {
+        deserializer = new NotificationEventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.maintenance_match.common.dto"), false);
+
+        emailEvent = NotificationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .recipientId(UUID.randomUUID().toString())
+                .channel(NotificationChannel.EMAIL)
+                .subject("Job Completed")
+                .template("job-completed")
+                .variables(Map.of("problem", "Broken window", "role", "maintainer", "rating", 5))
+                .build();
+    }
+
+    @Test
+    void deserialize_shouldReadAvroPayload() {
+        // When
+        NotificationEvent decoded = deserializer.deserialize(TOPIC, NotificationEventAvroCodec.encode(emailEvent));
+
+        // Then: integers come back widened to long, everything else unchanged
+        assertThat(decoded.getEventId()).isEqualTo(emailEvent.getEventId());
+        assertThat(decoded.getRecipientId()).isEqualTo(emailEvent.getRecipientId());
+        assertThat(decoded.getChannel()).isEqualTo(NotificationChannel.EMAIL);
+        assertThat(decoded.getMessage()).isNull();
+        assertThat(decoded.getTemplate()).isEqualTo("job-completed");
+        assertThat(decoded.getVariables()).containsEntry("problem", "Broken window").containsEntry("rating", 5L);
+    }
+
+    @Test
+    void deserialize_shouldStillReadJsonPayload() {
+        // Given: the format producers send until they switch to Avro
+        JsonSerializer<NotificationEvent> jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        byte[] json = jsonSerializer.serialize(TOPIC, emailEvent);
+
+        // When
+        NotificationEvent decoded = deserializer.deserialize(TOPIC, json);
+
+        // Then
+        assertThat(decoded).isEqualTo(emailEvent);
+    }
+}